@@ -93,6 +93,7 @@ public class CustomizationController {
 		getModificationStack().addListener(new AbstractSimpleModificationListener() {
 			@Override
 			protected void handleAnyEvent(IModification modification) {
+				swingCustomizer.getInfoCustomizations().notifyChange();
 				SwingUtilities.invokeLater(new Runnable() {
 					@Override
 					public void run() {
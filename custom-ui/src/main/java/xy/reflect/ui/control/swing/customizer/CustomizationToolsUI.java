@@ -197,6 +197,15 @@ public class CustomizationToolsUI extends CustomizedUI {
 						result.add(field);
 					}
 					return result;
+				} else if (isDerivedTypeInfo(type, InfoCustomizations.class)) {
+					List<IFieldInfo> result = new ArrayList<IFieldInfo>();
+					for (IFieldInfo field : super.getFields(type)) {
+						if (field.getName().equals(InfoCustomizations.REVISION_FIELD_NAME)) {
+							continue;
+						}
+						result.add(field);
+					}
+					return result;
 				} else {
 					return super.getFields(type);
 				}
@@ -212,6 +221,15 @@ public class CustomizationToolsUI extends CustomizedUI {
 					List<IMethodInfo> result = new ArrayList<IMethodInfo>(super.getMethods(type));
 					result.add(getLastInvocationDataStorageMethod());
 					return result;
+				} else if (isDerivedTypeInfo(type, InfoCustomizations.class)) {
+					List<IMethodInfo> result = new ArrayList<IMethodInfo>();
+					for (IMethodInfo method : super.getMethods(type)) {
+						if (method.getName().equals(InfoCustomizations.CHANGE_NOTIFICATION_METHOD_NAME)) {
+							continue;
+						}
+						result.add(method);
+					}
+					return result;
 				} else {
 					return super.getMethods(type);
 				}
@@ -5,6 +5,7 @@ import java.awt.BorderLayout;
 import java.awt.GridBagConstraints;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
@@ -140,12 +141,12 @@ public class CustomizingForm extends Form {
 	}
 
 	@Override
-	public void refresh(boolean refreshStructure) {
+	protected void refresh(boolean refreshStructure, Set<String> modifiedFieldNames) {
 		if (areCustomizationsEditable(object) != toolsAdded) {
 			objectType = null;
-			super.refresh(true);
+			super.refresh(true, null);
 		} else {
-			super.refresh(refreshStructure);
+			super.refresh(refreshStructure, modifiedFieldNames);
 		}
 	}
 
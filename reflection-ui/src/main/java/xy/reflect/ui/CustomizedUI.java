@@ -1,6 +1,8 @@
 
 package xy.reflect.ui;
 
+import java.util.Map;
+
 import xy.reflect.ui.info.app.IApplicationInfo;
 import xy.reflect.ui.info.custom.InfoCustomizations;
 import xy.reflect.ui.info.custom.InfoCustomizations.FieldCustomization;
@@ -12,8 +14,11 @@ import xy.reflect.ui.info.parameter.IParameterInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.info.type.factory.InfoCustomizationsFactory;
 import xy.reflect.ui.info.type.factory.InfoProxyFactory;
+import xy.reflect.ui.info.type.iterable.IListTypeInfo;
 import xy.reflect.ui.info.type.source.ITypeInfoSource;
 import xy.reflect.ui.info.type.source.SpecificitiesIdentifier;
+import xy.reflect.ui.util.CacheRegistry;
+import xy.reflect.ui.util.Pair;
 import xy.reflect.ui.util.ReflectionUIError;
 
 /**
@@ -28,6 +33,8 @@ public class CustomizedUI extends ReflectionUI {
 	protected static CustomizedUI defaultInstance;
 
 	protected InfoCustomizations infoCustomizations;
+	protected Map<ITypeInfoSource, Pair<Long, ITypeInfo>> typeInfoCache = CacheRegistry
+			.newStandardMap(CustomizedUI.class.getName() + ".typeInfoCache");
 
 	/**
 	 * @return the default instance of this class. This instance is constructed with
@@ -65,8 +72,18 @@ public class CustomizedUI extends ReflectionUI {
 		return infoCustomizations;
 	}
 
+	/**
+	 * Builds or retrieves from the cache the customized type information
+	 * associated with the given source. Cached results are reused until the
+	 * {@link InfoCustomizations#getRevision()} return value changes.
+	 */
 	@Override
 	public final ITypeInfo buildTypeInfo(ITypeInfoSource typeSource) {
+		long revision = infoCustomizations.getRevision();
+		Pair<Long, ITypeInfo> cached = typeInfoCache.get(typeSource);
+		if ((cached != null) && (cached.getFirst() == revision)) {
+			return cached.getSecond();
+		}
 		ITypeInfo result = super.buildTypeInfo(typeSource);
 		result = getInfoCustomizationsSetupFactory().wrapTypeInfo(result);
 		result = getTypeInfoBeforeCustomizations(result);
@@ -76,6 +93,7 @@ public class CustomizedUI extends ReflectionUI {
 			result = getSpecificitiesFactory(specificitiesIdentifier).wrapTypeInfo(result);
 		}
 		result = getTypeInfoAfterCustomizations(result);
+		typeInfoCache.put(typeSource, new Pair<Long, ITypeInfo>(revision, result));
 		return result;
 	}
 
@@ -151,6 +169,11 @@ public class CustomizedUI extends ReflectionUI {
 				return "CustomizationsSetupFactory [of=" + CustomizedUI.this.toString() + "]";
 			}
 
+			@Override
+			protected boolean canEditItemsInPlace(IListTypeInfo type) {
+				return canBaseEditItemsInPlace(type);
+			}
+
 			@Override
 			protected ITypeInfo getType(IParameterInfo param, IMethodInfo method, ITypeInfo containingType) {
 				ITypeInfo result = super.getType(param, method, containingType);
@@ -302,6 +302,11 @@ public abstract class AbstractFieldControlData implements IFieldControlData {
 			return field.getAlternativeConstructors(object);
 		}
 
+		@Override
+		protected boolean canEditItemsInPlace(IListTypeInfo type) {
+			return canBaseEditItemsInPlace(type);
+		}
+
 	}
 
 	public static class FieldAlternativeListItemConstructorsInstaller extends InfoProxyFactory {
@@ -355,6 +360,11 @@ public abstract class AbstractFieldControlData implements IFieldControlData {
 			}.wrapTypeInfo(result);
 			return result;
 		}
+
+		@Override
+		protected boolean canEditItemsInPlace(IListTypeInfo type) {
+			return canBaseEditItemsInPlace(type);
+		}
 	}
 
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Image;
 import java.awt.Insets;
+import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
@@ -17,11 +19,21 @@ import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.AbstractAction;
 import javax.swing.Action;
@@ -53,9 +65,11 @@ import javax.swing.table.TableColumn;
 import javax.swing.table.TableColumnModel;
 import javax.swing.tree.DefaultTreeCellRenderer;
 import javax.swing.tree.TreeCellRenderer;
+import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 
 import org.jdesktop.swingx.JXTreeTable;
+import org.jdesktop.swingx.tree.TreeModelSupport;
 import org.jdesktop.swingx.treetable.AbstractTreeTableModel;
 import org.jdesktop.swingx.treetable.TreeTableModel;
 
@@ -113,6 +127,7 @@ import xy.reflect.ui.undo.ModificationStack;
 import xy.reflect.ui.undo.UndoOrder;
 import xy.reflect.ui.util.Accessor;
 import xy.reflect.ui.util.Filter;
+import xy.reflect.ui.util.IntKeyMap;
 import xy.reflect.ui.util.Listener;
 import xy.reflect.ui.util.Mapper;
 import xy.reflect.ui.util.MiscUtils;
@@ -129,6 +144,7 @@ import xy.reflect.ui.util.ReflectionUIUtils;
 public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 
 	protected static final long serialVersionUID = 1L;
+	protected static final String PENDING_CELL_VALUE = "...";
 
 	protected SwingRenderer swingRenderer;
 	protected IFieldControlData listData;
@@ -140,6 +156,14 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 	protected AbstractBufferedItemPositionFactory itemPositionFactory;
 	protected static List<Object> clipboard = new ArrayList<Object>();
 	protected Map<ItemNode, Map<Integer, String>> valuesByNode = new HashMap<ItemNode, Map<Integer, String>>();
+	protected Map<ItemNode, Map<Integer, String>> staleValuesByNode = new IdentityHashMap<ItemNode, Map<Integer, String>>();
+	protected Map<Object, BufferedItemPosition> itemPositionByItem;
+	protected long itemPositionByItemRevision;
+	protected Map<ItemNode, Set<Integer>> requestedColumnIndexesByNode = new IdentityHashMap<ItemNode, Set<Integer>>();
+	protected boolean cellValueRequestsDispatchScheduled = false;
+	protected Map<ItemNode, CellValuesComputation> cellValuesComputationByNode = new IdentityHashMap<ItemNode, CellValuesComputation>();
+	protected Queue<CellValuesComputation> computedCellValues = new ConcurrentLinkedQueue<CellValuesComputation>();
+	protected AtomicBoolean computedCellValuesFlushScheduled = new AtomicBoolean(false);
 	protected IListStructuralInfo structuralInfo;
 
 	protected JPanel detailsArea;
@@ -600,6 +624,7 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 		treeTableComponent.getSelectionModel().setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
 		treeTableComponent.setRootVisible(false);
 		treeTableComponent.setShowsRootHandles(true);
+		treeTableComponent.setLargeModel(true);
 		treeTableComponent.setDefaultRenderer(Object.class, createTableCellRenderer());
 		treeTableComponent.setTreeCellRenderer(createTreeCellRenderer());
 		treeTableComponent.setColumnMargin(5);
@@ -705,43 +730,11 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 	}
 
 	protected TreeTableModel createTreeTableModel() {
-		return new AbstractTreeTableModel(rootNode) {
-
-			@Override
-			public int getIndexOfChild(Object parent, Object child) {
-				return ((ItemNode) parent).getIndex((ItemNode) child);
-			}
-
-			@Override
-			public int getChildCount(Object parent) {
-				return ((ItemNode) parent).getChildCount();
-			}
-
-			@Override
-			public Object getChild(Object parent, int index) {
-				return ((ItemNode) parent).getChildAt(index);
-			}
-
-			@Override
-			public Object getValueAt(Object arg0, int fieldIndex) {
-				return getCellValue((ItemNode) arg0, fieldIndex);
-			}
-
-			@Override
-			public int getColumnCount() {
-				return ListControl.this.getColumnCount();
-			}
-
-			@Override
-			public String getColumnName(int column) {
-				return swingRenderer.prepareMessageToDisplay(getColumnCaption(column));
-			}
-
-		};
+		return new ItemTreeTableModel();
 	}
 
 	protected ItemNode createRootNode() {
-		return new ItemNode(null);
+		return new RootItemNode();
 	}
 
 	public BufferedItemPosition getRootListItemPosition(int index) {
@@ -769,51 +762,230 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 		return tableInfo.getColumns().size();
 	}
 
-	protected String getCellValue(ItemNode node, int columnIndex) {
-		Map<Integer, String> nodeValues = valuesByNode.get(node);
-		if (nodeValues == null) {
-			nodeValues = new HashMap<Integer, String>();
-			valuesByNode.put(node, nodeValues);
-		}
+	protected String computeCellValue(IListStructuralInfo tableInfo, BufferedItemPosition itemPosition,
+			int columnIndex) {
 		String value;
-		if (nodeValues.containsKey(columnIndex)) {
-			value = nodeValues.get(columnIndex);
-		} else {
-			BufferedItemPosition itemPosition = findItemPositionByNode(node);
-			if (itemPosition == null) {
-				value = "";
+		try {
+			if (tableInfo == null) {
+				value = ReflectionUIUtils.toString(swingRenderer.getReflectionUI(), itemPosition.getItem());
 			} else {
-				try {
-					IListStructuralInfo tableInfo = getRootStructuralInfo();
-					if (tableInfo == null) {
-						value = ReflectionUIUtils.toString(swingRenderer.getReflectionUI(), itemPosition.getItem());
+				List<IColumnInfo> columns = tableInfo.getColumns();
+				if (columnIndex < columns.size()) {
+					IColumnInfo column = tableInfo.getColumns().get(columnIndex);
+					if (column.hasCellValue(itemPosition)) {
+						value = column.getCellValue(itemPosition);
 					} else {
-						List<IColumnInfo> columns = tableInfo.getColumns();
-						if (columnIndex < columns.size()) {
-							IColumnInfo column = tableInfo.getColumns().get(columnIndex);
-							if (column.hasCellValue(itemPosition)) {
-								value = column.getCellValue(itemPosition);
-							} else {
-								if (columnIndex == 0) {
-									value = ReflectionUIUtils.toString(swingRenderer.getReflectionUI(),
-											itemPosition.getItem());
-								} else {
-									value = null;
-								}
-							}
+						if (columnIndex == 0) {
+							value = ReflectionUIUtils.toString(swingRenderer.getReflectionUI(), itemPosition.getItem());
 						} else {
 							value = null;
 						}
 					}
-				} catch (Throwable t) {
-					value = "<" + MiscUtils.getPrettyErrorMessage(t) + ">";
+				} else {
+					value = null;
 				}
 			}
-			nodeValues.put(columnIndex, value);
+		} catch (Throwable t) {
+			value = "<" + MiscUtils.getPrettyErrorMessage(t) + ">";
 		}
 		return value;
 	}
 
+	/**
+	 * Returns the cell value that should be rendered. Uncached values are never
+	 * computed in the UI thread: the stale value (see
+	 * {@link #invalidateCellValues(ItemNode)}) or a placeholder is returned and
+	 * the value is computed in the background by the
+	 * {@link SwingRenderer#getCellValueComputer()} executor. The computed values
+	 * are then cached and the control is repainted.
+	 * 
+	 * @param node        The node.
+	 * @param columnIndex The column index.
+	 * @return the cell value, the stale cell value or {@link #PENDING_CELL_VALUE}.
+	 */
+	protected String getDisplayedCellValue(ItemNode node, int columnIndex) {
+		Map<Integer, String> nodeValues = valuesByNode.get(node);
+		if ((nodeValues != null) && nodeValues.containsKey(columnIndex)) {
+			return nodeValues.get(columnIndex);
+		}
+		requestCellValue(node, columnIndex);
+		Map<Integer, String> staleValues = staleValuesByNode.get(node);
+		if ((staleValues != null) && staleValues.containsKey(columnIndex)) {
+			return staleValues.get(columnIndex);
+		}
+		return PENDING_CELL_VALUE;
+	}
+
+	/**
+	 * Marks the cached cell values of the given node as stale. They will still be
+	 * displayed until their replacements are computed in the background.
+	 * 
+	 * @param node The node.
+	 */
+	protected void invalidateCellValues(ItemNode node) {
+		CellValuesComputation computation = cellValuesComputationByNode.remove(node);
+		if (computation != null) {
+			computation.cancel();
+		}
+		Map<Integer, String> oldValues = valuesByNode.remove(node);
+		if (oldValues == null) {
+			return;
+		}
+		Map<Integer, String> staleValues = staleValuesByNode.get(node);
+		if (staleValues == null) {
+			staleValuesByNode.put(node, oldValues);
+		} else {
+			staleValues.putAll(oldValues);
+		}
+	}
+
+	/**
+	 * Removes the cached (fresh and stale) cell values of the given node.
+	 * 
+	 * @param node The node.
+	 */
+	protected void forgetCellValues(ItemNode node) {
+		valuesByNode.remove(node);
+		staleValuesByNode.remove(node);
+	}
+
+	protected void requestCellValue(ItemNode node, int columnIndex) {
+		Set<Integer> columnIndexes = requestedColumnIndexesByNode.get(node);
+		if (columnIndexes == null) {
+			columnIndexes = new TreeSet<Integer>();
+			requestedColumnIndexesByNode.put(node, columnIndexes);
+		}
+		columnIndexes.add(columnIndex);
+		if (!cellValueRequestsDispatchScheduled) {
+			cellValueRequestsDispatchScheduled = true;
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					dispatchCellValueRequests();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Submits the cell value computation requests of the nodes that are still
+	 * displayed, in the visible rows order. The requests are merged with the
+	 * pending computations of the same nodes and the pending computations of the
+	 * nodes that are no longer visible are cancelled.
+	 */
+	protected void dispatchCellValueRequests() {
+		cellValueRequestsDispatchScheduled = false;
+		final Map<ItemNode, Set<Integer>> requests = requestedColumnIndexesByNode;
+		requestedColumnIndexesByNode = new IdentityHashMap<ItemNode, Set<Integer>>();
+		Set<ItemNode> visibleNodes = getVisibleNodes();
+		if (visibleNodes.size() > 0) {
+			cancelCellValuesComputations(visibleNodes);
+		}
+		final Map<ItemNode, Integer> rowByNode = new IdentityHashMap<ItemNode, Integer>();
+		for (ItemNode node : requests.keySet()) {
+			if ((visibleNodes.size() > 0) && !visibleNodes.contains(node)) {
+				continue;
+			}
+			int row = treeTableComponent.getRowForPath(new TreePath(node.getPath()));
+			if (row == -1) {
+				continue;
+			}
+			rowByNode.put(node, row);
+		}
+		List<ItemNode> nodes = new ArrayList<ItemNode>(rowByNode.keySet());
+		Collections.sort(nodes, new Comparator<ItemNode>() {
+			@Override
+			public int compare(ItemNode node1, ItemNode node2) {
+				return rowByNode.get(node1).compareTo(rowByNode.get(node2));
+			}
+		});
+		IListStructuralInfo tableInfo = getRootStructuralInfo();
+		for (ItemNode node : nodes) {
+			BufferedItemPosition itemPosition = findItemPositionByNode(node);
+			if (itemPosition == null) {
+				continue;
+			}
+			CellValuesComputation computation = cellValuesComputationByNode.get(node);
+			if (computation != null) {
+				if ((computation.itemPosition == itemPosition) && computation.addColumnIndexes(requests.get(node))) {
+					continue;
+				}
+			}
+			computation = new CellValuesComputation(node, itemPosition, tableInfo, requests.get(node));
+			cellValuesComputationByNode.put(node, computation);
+			computation.future = swingRenderer.getCellValueComputer().submit(computation);
+		}
+	}
+
+	/**
+	 * Cancels the pending cell value computations and removes them from the
+	 * {@link SwingRenderer#getCellValueComputer()} executor queue.
+	 * 
+	 * @param nodesToKeep The nodes whose computations must not be cancelled or
+	 *                    null if all the computations must be cancelled.
+	 */
+	protected void cancelCellValuesComputations(Set<ItemNode> nodesToKeep) {
+		boolean cancellationDone = false;
+		for (Iterator<CellValuesComputation> it = cellValuesComputationByNode.values().iterator(); it.hasNext();) {
+			CellValuesComputation computation = it.next();
+			if ((nodesToKeep != null) && nodesToKeep.contains(computation.node)) {
+				continue;
+			}
+			computation.cancel();
+			it.remove();
+			cancellationDone = true;
+		}
+		if (cancellationDone) {
+			ExecutorService cellValueComputer = swingRenderer.getCellValueComputer();
+			if (cellValueComputer instanceof ThreadPoolExecutor) {
+				((ThreadPoolExecutor) cellValueComputer).purge();
+			}
+		}
+	}
+
+	/**
+	 * Caches the cell values computed in the background since the last call and
+	 * repaints the control once. Values computed for nodes that were discarded or
+	 * rebound to other item positions in the mean time are ignored.
+	 */
+	protected void flushComputedCellValues() {
+		computedCellValuesFlushScheduled.set(false);
+		boolean repaintNeeded = false;
+		CellValuesComputation computed;
+		while ((computed = computedCellValues.poll()) != null) {
+			if (cellValuesComputationByNode.get(computed.node) == computed) {
+				cellValuesComputationByNode.remove(computed.node);
+			}
+			if (computed.node.getRoot() != rootNode) {
+				continue;
+			}
+			if (findItemPositionByNode(computed.node) != computed.itemPosition) {
+				continue;
+			}
+			Map<Integer, String> nodeValues = valuesByNode.get(computed.node);
+			if (nodeValues == null) {
+				nodeValues = new HashMap<Integer, String>();
+				valuesByNode.put(computed.node, nodeValues);
+			}
+			for (Map.Entry<Integer, String> entry : computed.values.entrySet()) {
+				if (!nodeValues.containsKey(entry.getKey())) {
+					nodeValues.put(entry.getKey(), entry.getValue());
+				}
+			}
+			Map<Integer, String> staleValues = staleValuesByNode.get(computed.node);
+			if (staleValues != null) {
+				staleValues.keySet().removeAll(computed.values.keySet());
+				if (staleValues.isEmpty()) {
+					staleValuesByNode.remove(computed.node);
+				}
+			}
+			repaintNeeded = true;
+		}
+		if (repaintNeeded) {
+			treeTableComponent.repaint();
+		}
+	}
+
 	protected Image getCellIconImage(ItemNode node, int columnIndex) {
 		BufferedItemPosition itemPosition = findItemPositionByNode(node);
 		if (columnIndex == 0) {
@@ -1056,19 +1228,57 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 		}
 	}
 
+	/**
+	 * @param item The item to search (compared by identity).
+	 * @return the position of the given item in the list or in its sub-lists, or
+	 *         null if it was not found. If the item is referenced several times
+	 *         then the first position in the order of
+	 *         {@link #visitItems(IItemsVisitor)} (each item before its sub-list
+	 *         items) is returned. The lookup relies on an identity index of all
+	 *         the item positions that is built from the item position buffers
+	 *         (the tree nodes are not required) and that is only rebuilt when
+	 *         these buffers change.
+	 */
 	public BufferedItemPosition findItemPositionByReference(final Object item) {
-		final BufferedItemPosition[] result = new BufferedItemPosition[1];
-		visitItems(new IItemsVisitor() {
-			@Override
-			public boolean visitItem(BufferedItemPosition itemPosition) {
-				if (itemPosition.getItem() == item) {
-					result[0] = itemPosition;
-					return false;
-				}
-				return true;
+		if ((itemPositionByItem == null) || (itemPositionByItemRevision != itemPositionFactory.getBuffersRevision())) {
+			Map<Object, BufferedItemPosition> index = new IdentityHashMap<Object, BufferedItemPosition>();
+			indexItemPositions(itemPositionFactory.getRootItemPosition(-1), index);
+			itemPositionByItem = index;
+			itemPositionByItemRevision = itemPositionFactory.getBuffersRevision();
+		}
+		return itemPositionByItem.get(item);
+	}
+
+	protected void indexItemPositions(BufferedItemPosition anyListItemPosition,
+			Map<Object, BufferedItemPosition> index) {
+		Object[] listRawValue = anyListItemPosition.retrieveContainingListRawValue();
+		for (int i = 0; i < listRawValue.length; i++) {
+			BufferedItemPosition itemPosition = anyListItemPosition.getSibling(i);
+			if (!index.containsKey(listRawValue[i])) {
+				index.put(listRawValue[i], itemPosition);
 			}
-		});
-		return result[0];
+			Object[] subListRawValue = itemPosition.retrieveSubListRawValue();
+			if ((subListRawValue == null) || (subListRawValue.length == 0)) {
+				continue;
+			}
+			indexItemPositions(itemPosition.getSubItemPosition(0), index);
+		}
+	}
+
+	/**
+	 * @param anyListItemPosition Any position in the list to search.
+	 * @param item                The item to search.
+	 * @return the index of the given item in the given list or -1 if the item is
+	 *         not found. The item is first searched by identity (see
+	 *         {@link BufferedItemPosition#getContainingListItemIndex(Object)}) and
+	 *         then by equality.
+	 */
+	protected int getItemIndex(BufferedItemPosition anyListItemPosition, Object item) {
+		int index = anyListItemPosition.getContainingListItemIndex(item);
+		if (index != -1) {
+			return index;
+		}
+		return Arrays.asList(anyListItemPosition.retrieveContainingListRawValue()).indexOf(item);
 	}
 
 	public BufferedItemPosition findItemPositionByNode(ItemNode node) {
@@ -1131,7 +1341,26 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 	}
 
 	public void collapseAllItemPositions() {
-		treeTableComponent.collapseAll();
+		List<TreePath> expandedPaths = new ArrayList<TreePath>();
+		Enumeration<?> expandedPathEnumeration = treeTableComponent.getExpandedDescendants(new TreePath(rootNode));
+		if (expandedPathEnumeration != null) {
+			while (expandedPathEnumeration.hasMoreElements()) {
+				TreePath treePath = (TreePath) expandedPathEnumeration.nextElement();
+				if (treePath.getLastPathComponent() == rootNode) {
+					continue;
+				}
+				expandedPaths.add(treePath);
+			}
+		}
+		Collections.sort(expandedPaths, new Comparator<TreePath>() {
+			@Override
+			public int compare(TreePath path1, TreePath path2) {
+				return path2.getPathCount() - path1.getPathCount();
+			}
+		});
+		for (TreePath treePath : expandedPaths) {
+			treeTableComponent.collapsePath(treePath);
+		}
 	}
 
 	public List<BufferedItemPosition> getExpandedItemPositions(BufferedItemPosition parentItemPosition) {
@@ -1493,6 +1722,8 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 			@Override
 			public void run() {
 				valuesByNode.clear();
+				staleValuesByNode.clear();
+				cancelCellValuesComputations(null);
 				rootNode = createRootNode();
 				treeTableComponent.setTreeTableModel(createTreeTableModel());
 				if (refreshStructure) {
@@ -1512,6 +1743,175 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 
 	}
 
+	/**
+	 * Updates the current tree table model instead of replacing it. The new root
+	 * list items are compared by identity to the displayed ones and only the
+	 * corresponding insertion, removal and change events are fired. The selection
+	 * is then naturally preserved and only the affected rows are rendered again.
+	 * The cell values of the kept visible rows are not recomputed in the UI
+	 * thread: they remain displayed as stale values until they are recomputed in
+	 * the background. Note that this is only possible when no item is expanded
+	 * since the sub-lists are not compared.
+	 * 
+	 * @return true if the incremental refresh was performed, false if the tree
+	 *         table model must be rebuilt.
+	 */
+	protected boolean refreshTreeTableModelIncrementally() {
+		if (!(rootNode instanceof RootItemNode)) {
+			return false;
+		}
+		RootItemNode root = (RootItemNode) rootNode;
+		if (root.areAllChildrenLoaded() || (root.listRawValue == null)) {
+			return false;
+		}
+		if (!(treeTableComponent.getTreeTableModel() instanceof ItemTreeTableModel)) {
+			return false;
+		}
+		ItemTreeTableModel model = (ItemTreeTableModel) treeTableComponent.getTreeTableModel();
+		if (model.getRoot() != root) {
+			return false;
+		}
+		if (getExpandedItemPositions(null).size() > 0) {
+			return false;
+		}
+		Set<ItemNode> visibleNodes = getVisibleNodes();
+		Object[] oldListRawValue = root.listRawValue;
+		Object[] newListRawValue;
+		refreshItemPositionBuffers();
+		try {
+			newListRawValue = getRootListRawValue();
+		} catch (Throwable t) {
+			return false;
+		}
+		int minLength = Math.min(oldListRawValue.length, newListRawValue.length);
+		int prefixLength = 0;
+		while ((prefixLength < minLength) && (oldListRawValue[prefixLength] == newListRawValue[prefixLength])) {
+			prefixLength++;
+		}
+		int suffixLength = 0;
+		while ((suffixLength < (minLength - prefixLength))
+				&& (oldListRawValue[oldListRawValue.length - 1 - suffixLength] == newListRawValue[newListRawValue.length
+						- 1 - suffixLength])) {
+			suffixLength++;
+		}
+		int oldMiddleLength = oldListRawValue.length - prefixLength - suffixLength;
+		int newMiddleLength = newListRawValue.length - prefixLength - suffixLength;
+		int replacedCount = Math.min(oldMiddleLength, newMiddleLength);
+		int removedCount = oldMiddleLength - replacedCount;
+		int insertedCount = newMiddleLength - replacedCount;
+		int shiftStart = prefixLength + replacedCount;
+		Object[] removedChildren = new Object[removedCount];
+		boolean staleValuesDisplayed = false;
+		IntKeyMap<ItemNode> newChildNodeByIndex = new IntKeyMap<ItemNode>();
+		IntKeyMap<ItemNode> changedNodeByIndex = new IntKeyMap<ItemNode>();
+		for (int slot = 0; slot < root.childNodeByIndex.getSlotCount(); slot++) {
+			ItemNode node = root.childNodeByIndex.getSlotValue(slot);
+			if (node == null) {
+				continue;
+			}
+			int oldIndex = root.childNodeByIndex.getSlotKey(slot);
+			int newIndex;
+			if (oldIndex < shiftStart) {
+				newIndex = oldIndex;
+			} else if (oldIndex >= (shiftStart + removedCount)) {
+				newIndex = oldIndex - removedCount + insertedCount;
+			} else {
+				node.discard();
+				forgetCellValues(node);
+				removedChildren[oldIndex - shiftStart] = node;
+				continue;
+			}
+			boolean wasLeaf = visibleNodes.contains(node) && node.isLeaf();
+			node.setItemPosition(itemPositionFactory.getRootItemPosition(newIndex));
+			node.unloadChildren();
+			newChildNodeByIndex.put(newIndex, node);
+			if (oldIndex >= prefixLength && oldIndex < shiftStart) {
+				forgetCellValues(node);
+				changedNodeByIndex.put(newIndex, node);
+			} else if (visibleNodes.contains(node)) {
+				invalidateCellValues(node);
+				staleValuesDisplayed = true;
+				if (wasLeaf != node.isLeaf()) {
+					changedNodeByIndex.put(newIndex, node);
+				}
+			} else {
+				forgetCellValues(node);
+			}
+		}
+		root.childNodeByIndex = newChildNodeByIndex;
+		root.childCount = newListRawValue.length;
+		root.listRawValue = newListRawValue;
+		TreePath rootPath = new TreePath(root);
+		if (removedCount > 0) {
+			int[] indices = new int[removedCount];
+			for (int i = 0; i < removedCount; i++) {
+				indices[i] = shiftStart + i;
+				if (removedChildren[i] == null) {
+					/*
+					 * This child node was never created and then never seen by the listeners.
+					 * A discarded node stands for it:
+					 */
+					ItemNode removedNode = new ItemNode(null);
+					removedNode.discard();
+					removedChildren[i] = removedNode;
+				}
+			}
+			model.getModelSupport().fireChildrenRemoved(rootPath, indices, removedChildren);
+		}
+		if (insertedCount > 0) {
+			int[] indices = new int[insertedCount];
+			Object[] insertedChildren = new Object[insertedCount];
+			for (int i = 0; i < insertedCount; i++) {
+				indices[i] = shiftStart + i;
+				insertedChildren[i] = root.getOrCreateChildNode(indices[i]);
+			}
+			model.getModelSupport().fireChildrenAdded(rootPath, indices, insertedChildren);
+		}
+		if (changedNodeByIndex.size() > 0) {
+			int[] indices = new int[changedNodeByIndex.size()];
+			int changedCount = 0;
+			for (int slot = 0; slot < changedNodeByIndex.getSlotCount(); slot++) {
+				if (changedNodeByIndex.getSlotValue(slot) != null) {
+					indices[changedCount++] = changedNodeByIndex.getSlotKey(slot);
+				}
+			}
+			Arrays.sort(indices);
+			Object[] changedChildren = new Object[indices.length];
+			for (int i = 0; i < indices.length; i++) {
+				changedChildren[i] = changedNodeByIndex.get(indices[i]);
+			}
+			model.getModelSupport().fireChildrenChanged(rootPath, indices, changedChildren);
+		}
+		if (staleValuesDisplayed) {
+			treeTableComponent.repaint();
+		}
+		return true;
+	}
+
+	protected Set<ItemNode> getVisibleNodes() {
+		Set<ItemNode> result = Collections.newSetFromMap(new IdentityHashMap<ItemNode, Boolean>());
+		Rectangle visibleRect = treeTableComponent.getVisibleRect();
+		if (visibleRect.isEmpty()) {
+			return result;
+		}
+		int firstRow = treeTableComponent.rowAtPoint(visibleRect.getLocation());
+		if (firstRow == -1) {
+			return result;
+		}
+		int lastRow = treeTableComponent
+				.rowAtPoint(new Point(visibleRect.x, visibleRect.y + visibleRect.height - 1));
+		if (lastRow == -1) {
+			lastRow = treeTableComponent.getRowCount() - 1;
+		}
+		for (int row = firstRow; row <= lastRow; row++) {
+			TreePath path = treeTableComponent.getPathForRow(row);
+			if (path != null) {
+				result.add((ItemNode) path.getLastPathComponent());
+			}
+		}
+		return result;
+	}
+
 	public void visitItems(IItemsVisitor iItemsVisitor) {
 		visitItems(iItemsVisitor, rootNode);
 	}
@@ -1561,20 +1961,22 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 			}
 			SwingRendererUtils.handleComponentSizeChange(this);
 		} else {
-			restoringSelectionAsMuchAsPossible(new Runnable() {
+			if (!refreshTreeTableModelIncrementally()) {
+				restoringSelectionAsMuchAsPossible(new Runnable() {
 
-				@Override
-				public void run() {
-					restoringExpandedPathsAsMuchAsPossible(new Runnable() {
-						@Override
-						public void run() {
-							refreshItemPositionBuffers();
-							refreshTreeTableModelAndControl(refreshStructure);
-						}
-					});
-				}
+					@Override
+					public void run() {
+						restoringExpandedPathsAsMuchAsPossible(new Runnable() {
+							@Override
+							public void run() {
+								refreshItemPositionBuffers();
+								refreshTreeTableModelAndControl(refreshStructure);
+							}
+						});
+					}
 
-			});
+				});
+			}
 			if (getDetailsAccessMode().hasEmbeddedDetailsDisplayArea()) {
 				updateDetailsArea(false);
 			}
@@ -1740,8 +2142,7 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 				try {
 					if (!wasSelectedPosition.getContainingListType().isOrdered()) {
 						Object wasSelected = wereSelected.get(i);
-						int index = Arrays.asList(wasSelectedPosition.retrieveContainingListRawValue())
-								.indexOf(wasSelected);
+						int index = getItemIndex(wasSelectedPosition, wasSelected);
 						wasSelectedPosition = wasSelectedPosition.getSibling(index);
 						wereSelectedPositions.set(i, wasSelectedPosition);
 					}
@@ -1781,8 +2182,7 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 			try {
 				if (!wasExpandedPosition.getContainingListType().isOrdered()) {
 					Object wasSelected = wereExpanded.get(i);
-					int index = Arrays.asList(wasExpandedPosition.retrieveContainingListRawValue())
-							.indexOf(wasSelected);
+					int index = getItemIndex(wasExpandedPosition, wasSelected);
 					wasExpandedPosition = wasExpandedPosition.getSibling(index);
 					wereExpandedPositions.set(i, wasExpandedPosition);
 				}
@@ -1805,13 +2205,26 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 
 		protected static final long serialVersionUID = 1L;
 		protected BufferedItemPosition currentItemPosition;
-		protected boolean childrenLoaded = false;;
 
 		public ItemNode(BufferedItemPosition currentItemPosition) {
+			setItemPosition(currentItemPosition);
+		}
+
+		protected void setItemPosition(BufferedItemPosition currentItemPosition) {
 			this.currentItemPosition = currentItemPosition;
 			setUserObject(currentItemPosition);
 		}
 
+		/**
+		 * Detaches this node from its parent and prevents it from loading its
+		 * children since its item position is obsolete.
+		 */
+		protected void discard() {
+			unloadChildren();
+			childrenLoaded = true;
+			setParent(null);
+		}
+
 		@Override
 		protected List<AbstractLazyTreeNode> createChildrenNodes() {
 			List<AbstractLazyTreeNode> result = new ArrayList<AbstractLazyTreeNode>();
@@ -1836,6 +2249,243 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 
 	}
 
+	/**
+	 * Root node that does not create the root item positions and nodes up front.
+	 * The child count is given by the root list size and the child nodes are
+	 * created (and then kept) only when they are accessed (typically when their
+	 * rows are displayed). Operations that require all the children (enumeration,
+	 * insertion, ...) still load them all, reusing the already created nodes.
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected class RootItemNode extends ItemNode {
+
+		protected static final long serialVersionUID = 1L;
+		protected IntKeyMap<ItemNode> childNodeByIndex = new IntKeyMap<ItemNode>();
+		protected int childCount = -1;
+		protected Object[] listRawValue;
+
+		public RootItemNode() {
+			super(null);
+		}
+
+		protected ItemNode getOrCreateChildNode(int index) {
+			ItemNode result = childNodeByIndex.get(index);
+			if (result == null) {
+				result = new ItemNode(itemPositionFactory.getRootItemPosition(index));
+				result.setParent(this);
+				childNodeByIndex.put(index, result);
+			}
+			return result;
+		}
+
+		@Override
+		protected List<AbstractLazyTreeNode> createChildrenNodes() {
+			List<AbstractLazyTreeNode> result = new ArrayList<AbstractLazyTreeNode>();
+			try {
+				for (int i = 0; i < getRootListSize(); i++) {
+					ItemNode node = getOrCreateChildNode(i);
+					node.setParent(null);
+					result.add(node);
+				}
+			} catch (Throwable t) {
+				refreshingErrorHandler.handle(t);
+			}
+			childNodeByIndex = new IntKeyMap<ItemNode>();
+			return result;
+		}
+
+		protected boolean areAllChildrenLoaded() {
+			return childrenLoaded;
+		}
+
+		protected int getRootListSize() {
+			if (childCount == -1) {
+				try {
+					listRawValue = getRootListRawValue();
+					childCount = listRawValue.length;
+				} catch (Throwable t) {
+					refreshingErrorHandler.handle(t);
+					childCount = 0;
+				}
+			}
+			return childCount;
+		}
+
+		@Override
+		public int getChildCount() {
+			if (childrenLoaded) {
+				return super.getChildCount();
+			}
+			return getRootListSize();
+		}
+
+		@Override
+		public TreeNode getChildAt(int index) {
+			if (childrenLoaded) {
+				return super.getChildAt(index);
+			}
+			if ((index < 0) || (index >= getChildCount())) {
+				throw new ArrayIndexOutOfBoundsException("node has no child at index " + index);
+			}
+			return getOrCreateChildNode(index);
+		}
+
+		@Override
+		public int getIndex(TreeNode aChild) {
+			if (childrenLoaded) {
+				return super.getIndex(aChild);
+			}
+			if (!(aChild instanceof ItemNode) || (aChild.getParent() != this)) {
+				return -1;
+			}
+			BufferedItemPosition itemPosition = ((ItemNode) aChild).currentItemPosition;
+			if (childNodeByIndex.get(itemPosition.getIndex()) != aChild) {
+				return -1;
+			}
+			return itemPosition.getIndex();
+		}
+
+		@Override
+		public boolean isLeaf() {
+			return getChildCount() == 0;
+		}
+
+		@Override
+		public String toString() {
+			Object userObject = getUserObject();
+			return (userObject == null) ? null : userObject.toString();
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj;
+		}
+
+	}
+
+	protected class ItemTreeTableModel extends AbstractTreeTableModel {
+
+		public ItemTreeTableModel() {
+			super(rootNode);
+		}
+
+		public TreeModelSupport getModelSupport() {
+			return modelSupport;
+		}
+
+		@Override
+		public int getIndexOfChild(Object parent, Object child) {
+			return ((ItemNode) parent).getIndex((ItemNode) child);
+		}
+
+		@Override
+		public int getChildCount(Object parent) {
+			return ((ItemNode) parent).getChildCount();
+		}
+
+		@Override
+		public Object getChild(Object parent, int index) {
+			return ((ItemNode) parent).getChildAt(index);
+		}
+
+		@Override
+		public Object getValueAt(Object arg0, int fieldIndex) {
+			ItemNode node = (ItemNode) arg0;
+			if (findItemPositionByNode(node) == null) {
+				return "";
+			}
+			return getDisplayedCellValue(node, fieldIndex);
+		}
+
+		@Override
+		public int getColumnCount() {
+			return ListControl.this.getColumnCount();
+		}
+
+		@Override
+		public String getColumnName(int column) {
+			return swingRenderer.prepareMessageToDisplay(getColumnCaption(column));
+		}
+
+	}
+
+	/**
+	 * Background computation of cell values of a node. Columns can be added to
+	 * the computation until it starts.
+	 */
+	protected class CellValuesComputation implements Runnable {
+		protected ItemNode node;
+		protected BufferedItemPosition itemPosition;
+		protected IListStructuralInfo tableInfo;
+		protected Set<Integer> columnIndexes;
+		protected Map<Integer, String> values = new HashMap<Integer, String>();
+		protected boolean started = false;
+		protected boolean cancelled = false;
+		protected Future<?> future;
+
+		public CellValuesComputation(ItemNode node, BufferedItemPosition itemPosition, IListStructuralInfo tableInfo,
+				Set<Integer> columnIndexes) {
+			this.node = node;
+			this.itemPosition = itemPosition;
+			this.tableInfo = tableInfo;
+			this.columnIndexes = new TreeSet<Integer>(columnIndexes);
+		}
+
+		/**
+		 * @param newColumnIndexes The indexes of the columns to add.
+		 * @return false if the computation has already started or has been cancelled
+		 *         (the columns are then not added), true otherwise.
+		 */
+		public synchronized boolean addColumnIndexes(Set<Integer> newColumnIndexes) {
+			if (started || cancelled) {
+				return false;
+			}
+			columnIndexes.addAll(newColumnIndexes);
+			return true;
+		}
+
+		public void cancel() {
+			synchronized (this) {
+				cancelled = true;
+			}
+			if (future != null) {
+				future.cancel(false);
+			}
+		}
+
+		@Override
+		public void run() {
+			List<Integer> columnIndexesToCompute;
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				started = true;
+				columnIndexesToCompute = new ArrayList<Integer>(columnIndexes);
+			}
+			for (int columnIndex : columnIndexesToCompute) {
+				values.put(columnIndex, computeCellValue(tableInfo, itemPosition, columnIndex));
+			}
+			computedCellValues.add(this);
+			if (computedCellValuesFlushScheduled.compareAndSet(false, true)) {
+				SwingUtilities.invokeLater(new Runnable() {
+					@Override
+					public void run() {
+						flushComputedCellValues();
+					}
+				});
+			}
+		}
+
+	}
+
 	protected class RefreshStructureModification implements IModification {
 		protected Accessor<List<BufferedItemPosition>> newSelectionGetter;
 		protected Accessor<List<BufferedItemPosition>> oldSelectionGetter;
@@ -2049,7 +2699,7 @@ public class ListControl extends ControlPanel implements IAdvancedFieldControl {
 			if (findItemPositionByNode(node) == null) {
 				return;
 			}
-			String text = getCellValue(node, columnIndex);
+			String text = getDisplayedCellValue(node, columnIndex);
 			if ((text == null) || (text.length() == 0)) {
 				label.setText(" ");
 				label.setToolTipText(null);
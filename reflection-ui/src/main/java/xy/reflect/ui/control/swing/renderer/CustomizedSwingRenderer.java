@@ -54,4 +54,9 @@ public class CustomizedSwingRenderer extends SwingRenderer {
 		return getCustomizedUI().getInfoCustomizations();
 	}
 
+	@Override
+	protected long getInfoRevision() {
+		return getInfoCustomizations().getRevision();
+	}
+
 }
@@ -0,0 +1,307 @@
+package xy.reflect.ui.control.swing.renderer;
+
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import xy.reflect.ui.control.IFieldControlData;
+import xy.reflect.ui.control.swing.util.SwingRendererUtils;
+import xy.reflect.ui.info.field.IFieldInfo;
+import xy.reflect.ui.util.MiscUtils;
+import xy.reflect.ui.util.ReflectionUIUtils;
+
+/**
+ * Central scheduler of the periodic field control refreshes (see
+ * {@link IFieldInfo#getAutoUpdatePeriodMilliseconds()}). The field control
+ * containers are grouped by period so that a single timer is used for each
+ * period. On each tick, the containers of the hidden or inactive windows are
+ * skipped, the field values are retrieved in background by the executor
+ * returned by {@link SwingRenderer#getFieldValuePrefetcher()} and only the
+ * controls whose values changed since they were last refreshed are refreshed.
+ * 
+ * Note that the methods of this class must be called from the UI thread.
+ * 
+ * @author olitank
+ *
+ */
+public class FieldAutoRefreshScheduler {
+
+	protected SwingRenderer swingRenderer;
+	protected Map<Long, PeriodGroup> groupByPeriod = new HashMap<Long, PeriodGroup>();
+	protected Map<FieldControlPlaceHolder, PeriodGroup> groupByFieldControlPlaceHolder = new IdentityHashMap<FieldControlPlaceHolder, PeriodGroup>();
+
+	public FieldAutoRefreshScheduler(SwingRenderer swingRenderer) {
+		this.swingRenderer = swingRenderer;
+	}
+
+	/**
+	 * Starts the periodic refresh of the given field control container.
+	 * 
+	 * @param fieldControlPlaceHolder The field control container.
+	 */
+	public void register(FieldControlPlaceHolder fieldControlPlaceHolder) {
+		if (isRegistered(fieldControlPlaceHolder)) {
+			return;
+		}
+		long period = fieldControlPlaceHolder.getField().getAutoUpdatePeriodMilliseconds();
+		PeriodGroup group = groupByPeriod.get(period);
+		if (group == null) {
+			group = createPeriodGroup(period);
+			groupByPeriod.put(period, group);
+		}
+		group.add(fieldControlPlaceHolder);
+		groupByFieldControlPlaceHolder.put(fieldControlPlaceHolder, group);
+	}
+
+	/**
+	 * Stops the periodic refresh of the given field control container.
+	 * 
+	 * @param fieldControlPlaceHolder The field control container.
+	 */
+	public void unregister(FieldControlPlaceHolder fieldControlPlaceHolder) {
+		PeriodGroup group = groupByFieldControlPlaceHolder.remove(fieldControlPlaceHolder);
+		if (group == null) {
+			return;
+		}
+		group.remove(fieldControlPlaceHolder);
+		if (group.isEmpty()) {
+			group.stop();
+			groupByPeriod.remove(group.period);
+		}
+	}
+
+	/**
+	 * @param fieldControlPlaceHolder The field control container.
+	 * @return whether the given field control container is periodically
+	 *         refreshed.
+	 */
+	public boolean isRegistered(FieldControlPlaceHolder fieldControlPlaceHolder) {
+		return groupByFieldControlPlaceHolder.containsKey(fieldControlPlaceHolder);
+	}
+
+	/**
+	 * Must be called each time the given field control container is refreshed so
+	 * that the next periodic refresh is skipped only if the field value did not
+	 * change since.
+	 * 
+	 * @param fieldControlPlaceHolder The field control container.
+	 * @param displayedValueKnown     Whether the value displayed by the field
+	 *                                control is known (typically when it was
+	 *                                prefetched).
+	 * @param displayedValue          The value displayed by the field control if
+	 *                                known.
+	 */
+	public void handleRefresh(FieldControlPlaceHolder fieldControlPlaceHolder, boolean displayedValueKnown,
+			Object displayedValue) {
+		PeriodGroup group = groupByFieldControlPlaceHolder.get(fieldControlPlaceHolder);
+		if (group == null) {
+			return;
+		}
+		if (displayedValueKnown) {
+			group.lastValueByFieldControlPlaceHolder.put(fieldControlPlaceHolder, displayedValue);
+		} else {
+			group.lastValueByFieldControlPlaceHolder.remove(fieldControlPlaceHolder);
+		}
+	}
+
+	protected PeriodGroup createPeriodGroup(long period) {
+		return new PeriodGroup(period);
+	}
+
+	/**
+	 * @param window A window.
+	 * @param frontWindows The windows that are not covered by owned windows.
+	 * @return whether the field controls of the given window should be
+	 *         refreshed.
+	 */
+	protected boolean isWindowActive(Window window, List<Window> frontWindows) {
+		return window.isShowing() && frontWindows.contains(window);
+	}
+
+	/**
+	 * @param lastValue The last value displayed by a field control.
+	 * @param newValue  The new value of the field.
+	 * @return whether the field control can skip its refresh.
+	 */
+	protected boolean isValueUnchanged(Object lastValue, Object newValue) {
+		if (!MiscUtils.equalsOrBothNull(lastValue, newValue)) {
+			return false;
+		}
+		return ReflectionUIUtils.isValueImmutable(swingRenderer.getReflectionUI(), newValue);
+	}
+
+	@Override
+	public String toString() {
+		return "FieldAutoRefreshScheduler [swingRenderer=" + swingRenderer + "]";
+	}
+
+	/**
+	 * Field control containers sharing the same refresh period.
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected class PeriodGroup {
+
+		protected long period;
+		protected Timer timer;
+		protected Set<FieldControlPlaceHolder> fieldControlPlaceHolders = new LinkedHashSet<FieldControlPlaceHolder>();
+		protected Map<FieldControlPlaceHolder, Object> lastValueByFieldControlPlaceHolder = new HashMap<FieldControlPlaceHolder, Object>();
+		protected boolean valueRetrievalInProgress = false;
+
+		public PeriodGroup(long period) {
+			this.period = period;
+			int delay;
+			if (period > Integer.MAX_VALUE) {
+				delay = Integer.MAX_VALUE;
+			} else if (period < 0) {
+				delay = 0;
+			} else {
+				delay = (int) period;
+			}
+			timer = new Timer(delay, new ActionListener() {
+				@Override
+				public void actionPerformed(ActionEvent e) {
+					tick();
+				}
+			});
+			timer.setInitialDelay(0);
+			timer.setRepeats(true);
+		}
+
+		public void add(FieldControlPlaceHolder fieldControlPlaceHolder) {
+			fieldControlPlaceHolders.add(fieldControlPlaceHolder);
+			if (!timer.isRunning()) {
+				timer.start();
+			}
+		}
+
+		public boolean remove(FieldControlPlaceHolder fieldControlPlaceHolder) {
+			lastValueByFieldControlPlaceHolder.remove(fieldControlPlaceHolder);
+			return fieldControlPlaceHolders.remove(fieldControlPlaceHolder);
+		}
+
+		public boolean contains(FieldControlPlaceHolder fieldControlPlaceHolder) {
+			return fieldControlPlaceHolders.contains(fieldControlPlaceHolder);
+		}
+
+		public boolean isEmpty() {
+			return fieldControlPlaceHolders.isEmpty();
+		}
+
+		public void stop() {
+			timer.stop();
+		}
+
+		protected void tick() {
+			if (valueRetrievalInProgress) {
+				return;
+			}
+			final List<FieldControlPlaceHolder> activeFieldControlPlaceHolders = collectActiveFieldControlPlaceHolders();
+			if (activeFieldControlPlaceHolders.size() == 0) {
+				return;
+			}
+			final int count = activeFieldControlPlaceHolders.size();
+			final IFieldControlData[] valueSources = new IFieldControlData[count];
+			final Object[] lastValues = new Object[count];
+			final boolean[] lastValuesKnown = new boolean[count];
+			for (int i = 0; i < count; i++) {
+				FieldControlPlaceHolder fieldControlPlaceHolder = activeFieldControlPlaceHolders.get(i);
+				valueSources[i] = fieldControlPlaceHolder.getValueSourceControlData();
+				lastValuesKnown[i] = lastValueByFieldControlPlaceHolder.containsKey(fieldControlPlaceHolder);
+				lastValues[i] = lastValueByFieldControlPlaceHolder.get(fieldControlPlaceHolder);
+			}
+			valueRetrievalInProgress = true;
+			swingRenderer.getFieldValuePrefetcher().submit(new Runnable() {
+				@Override
+				public void run() {
+					final Object[] values = new Object[count];
+					final Throwable[] errors = new Throwable[count];
+					final boolean[] changes = new boolean[count];
+					try {
+						for (int i = 0; i < count; i++) {
+							try {
+								values[i] = valueSources[i].getValue();
+							} catch (Throwable t) {
+								errors[i] = t;
+							}
+							changes[i] = (errors[i] != null) || !lastValuesKnown[i]
+									|| !isValueUnchanged(lastValues[i], values[i]);
+						}
+					} finally {
+						SwingUtilities.invokeLater(new Runnable() {
+							@Override
+							public void run() {
+								valueRetrievalInProgress = false;
+								applyChanges(activeFieldControlPlaceHolders, valueSources, values, errors, changes);
+							}
+						});
+					}
+				}
+			});
+		}
+
+		protected List<FieldControlPlaceHolder> collectActiveFieldControlPlaceHolders() {
+			List<FieldControlPlaceHolder> result = new ArrayList<FieldControlPlaceHolder>();
+			List<Window> frontWindows = null;
+			Map<Window, Boolean> activityByWindow = new HashMap<Window, Boolean>();
+			for (FieldControlPlaceHolder fieldControlPlaceHolder : fieldControlPlaceHolders) {
+				Window window = SwingUtilities.getWindowAncestor(fieldControlPlaceHolder);
+				if (window == null) {
+					continue;
+				}
+				Boolean windowActive = activityByWindow.get(window);
+				if (windowActive == null) {
+					if (frontWindows == null) {
+						frontWindows = SwingRendererUtils.getFrontWindows();
+					}
+					windowActive = isWindowActive(window, frontWindows);
+					activityByWindow.put(window, windowActive);
+				}
+				if (windowActive) {
+					result.add(fieldControlPlaceHolder);
+				}
+			}
+			return result;
+		}
+
+		protected void applyChanges(List<FieldControlPlaceHolder> activeFieldControlPlaceHolders,
+				IFieldControlData[] valueSources, Object[] values, Throwable[] errors, boolean[] changes) {
+			for (int i = 0; i < activeFieldControlPlaceHolders.size(); i++) {
+				if (!changes[i]) {
+					continue;
+				}
+				FieldControlPlaceHolder fieldControlPlaceHolder = activeFieldControlPlaceHolders.get(i);
+				if (!fieldControlPlaceHolders.contains(fieldControlPlaceHolder)) {
+					continue;
+				}
+				fieldControlPlaceHolder.setPrefetchedValue(valueSources[i], values[i], errors[i]);
+				try {
+					fieldControlPlaceHolder.refreshUI(false);
+					if (fieldControlPlaceHolder.isLayoutInContainerUpdateNeeded()) {
+						fieldControlPlaceHolder.getForm().updateFieldControlLayoutInContainer(fieldControlPlaceHolder);
+					}
+				} finally {
+					fieldControlPlaceHolder.clearPrefetchedValue();
+				}
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "PeriodGroup [period=" + period + ", fieldControlPlaceHolders=" + fieldControlPlaceHolders + "]";
+		}
+
+	}
+
+}
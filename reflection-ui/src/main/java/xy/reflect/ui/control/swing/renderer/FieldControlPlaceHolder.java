@@ -1,17 +1,17 @@
 
 package xy.reflect.ui.control.swing.renderer;
 
+import java.awt.AlphaComposite;
 import java.awt.BorderLayout;
 import java.awt.Component;
-import java.awt.Window;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
-import javax.swing.Timer;
 import javax.swing.event.AncestorEvent;
 import javax.swing.event.AncestorListener;
 
@@ -53,6 +53,7 @@ import xy.reflect.ui.info.type.source.TypeInfoSourceProxy;
 import xy.reflect.ui.undo.ModificationStack;
 import xy.reflect.ui.util.ClassUtils;
 import xy.reflect.ui.util.MiscUtils;
+import xy.reflect.ui.util.ReflectionUIError;
 import xy.reflect.ui.util.ReflectionUIUtils;
 
 /**
@@ -84,10 +85,16 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 	protected boolean layoutInContainerUpdateNeeded = true;
 	protected int positionInContainer = -1;
 	protected boolean ancestorVisible = false;
-	protected AutoUpdater autoRefreshThread;
 	protected Component siblingCaptionControl;
 	protected Component siblingOnlineHelpControl;
 	protected Map<String, Object> lastFieldControlSelectionCriteria;
+	protected volatile IFieldControlData valueSourceControlData;
+	protected boolean valuePrefetched = false;
+	protected Object prefetchedValue;
+	protected Throwable prefetchedValueError;
+	protected boolean valueStale = false;
+	protected Runnable valueChangeSubscription;
+	protected final AtomicBoolean valueChangeNotificationPending = new AtomicBoolean(false);
 
 	public FieldControlPlaceHolder(Form form, IFieldInfo field) {
 		super();
@@ -162,33 +169,92 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 		if (isAutoRefreshActive()) {
 			stopAutoRefresh();
 		}
-		if ((field.getAutoUpdatePeriodMilliseconds() >= 0) && ancestorVisible) {
+		if (isSubscribedToValueChanges()) {
+			unsubscribeFromValueChanges();
+		}
+		if (!ancestorVisible) {
+			return;
+		}
+		subscribeToValueChanges();
+		if (isSubscribedToValueChanges()) {
+			return;
+		}
+		if (field.getAutoUpdatePeriodMilliseconds() >= 0) {
 			startAutoRefresh();
 		}
 	}
 
-	public boolean isAutoRefreshActive() {
-		return (autoRefreshThread != null) && (autoRefreshThread.isRunning());
+	/**
+	 * @return whether the field control is notified of the field value changes
+	 *         (see {@link IFieldInfo#subscribeToValueChanges(Object, Runnable)}),
+	 *         in which case the value does not need to be polled.
+	 */
+	public boolean isSubscribedToValueChanges() {
+		return valueChangeSubscription != null;
 	}
 
-	public AutoUpdater createAutoRefreshThread() {
-		return new AutoUpdater();
+	protected void subscribeToValueChanges() {
+		valueChangeSubscription = field.subscribeToValueChanges(getObject(), new Runnable() {
+			@Override
+			public void run() {
+				onValueChangeNotification();
+			}
+		});
 	}
 
-	protected void startAutoRefresh() {
-		if (isAutoRefreshActive()) {
-			return;
+	protected void unsubscribeFromValueChanges() {
+		try {
+			valueChangeSubscription.run();
+		} finally {
+			valueChangeSubscription = null;
 		}
-		autoRefreshThread = createAutoRefreshThread();
-		autoRefreshThread.start();
 	}
 
-	protected void stopAutoRefresh() {
-		if (!isAutoRefreshActive()) {
+	/**
+	 * Called (possibly from any thread) when a change of the field value is
+	 * notified. The new value is retrieved in the background and then displayed.
+	 * Notifications received before the new value is retrieved are coalesced.
+	 */
+	protected void onValueChangeNotification() {
+		if (!valueChangeNotificationPending.compareAndSet(false, true)) {
 			return;
 		}
-		autoRefreshThread.stop();
-		autoRefreshThread = null;
+		swingRenderer.getFieldValuePrefetcher().submit(new Runnable() {
+			@Override
+			public void run() {
+				valueChangeNotificationPending.set(false);
+				final Runnable valueApplicationJob = prefetchValue();
+				SwingUtilities.invokeLater(new Runnable() {
+					@Override
+					public void run() {
+						if (!isSubscribedToValueChanges() || (fieldControl == null)) {
+							return;
+						}
+						valueApplicationJob.run();
+						try {
+							refreshUI(false);
+							if (isLayoutInContainerUpdateNeeded()) {
+								form.updateFieldControlLayoutInContainer(FieldControlPlaceHolder.this);
+							}
+						} finally {
+							clearPrefetchedValue();
+						}
+					}
+				});
+			}
+		});
+	}
+
+	public boolean isAutoRefreshActive() {
+		return swingRenderer.getFieldAutoRefreshScheduler().isRegistered(this);
+	}
+
+	protected void startAutoRefresh() {
+		swingRenderer.getFieldAutoRefreshScheduler().register(this);
+	}
+
+	protected void stopAutoRefresh() {
+		swingRenderer.getFieldAutoRefreshScheduler().unregister(this);
 	}
 
 	public IFieldInfo getField() {
@@ -251,6 +317,126 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 		};
 	}
 
+	protected IFieldControlData handlePrefetchedValue(final IFieldControlData data) {
+		valueSourceControlData = data;
+		return new FieldControlDataProxy(data) {
+
+			@Override
+			public Object getValue() {
+				if (valuePrefetched) {
+					if (prefetchedValueError != null) {
+						if (prefetchedValueError instanceof RuntimeException) {
+							throw (RuntimeException) prefetchedValueError;
+						}
+						if (prefetchedValueError instanceof Error) {
+							throw (Error) prefetchedValueError;
+						}
+						throw new ReflectionUIError(prefetchedValueError);
+					}
+					return prefetchedValue;
+				}
+				return super.getValue();
+			}
+		};
+	}
+
+	/**
+	 * Retrieves the current field value without using the control data layers
+	 * that interact with the UI. This method can then be called from any thread.
+	 * 
+	 * @return a job that makes the retrieved value (or the error that occurred)
+	 *         available to the field control until {@link #clearPrefetchedValue()}
+	 *         is called. This job must be executed in the UI thread.
+	 */
+	public Runnable prefetchValue() {
+		final IFieldControlData valueSource = getValueSourceControlData();
+		Object value = null;
+		Throwable error = null;
+		try {
+			value = valueSource.getValue();
+		} catch (Throwable t) {
+			error = t;
+		}
+		final Object finalValue = value;
+		final Throwable finalError = error;
+		return new Runnable() {
+			@Override
+			public void run() {
+				setPrefetchedValue(valueSource, finalValue, finalError);
+			}
+		};
+	}
+
+	/**
+	 * @return the control data that retrieves the field value without interacting
+	 *         with the UI. Its {@link IFieldControlData#getValue()} method can then
+	 *         be called from any thread.
+	 */
+	public IFieldControlData getValueSourceControlData() {
+		return valueSourceControlData;
+	}
+
+	/**
+	 * Makes the given value (or error) available to the field control until
+	 * {@link #clearPrefetchedValue()} is called. Ignored if the given value source
+	 * has been replaced in the meantime.
+	 * 
+	 * @param valueSource The control data returned by
+	 *                    {@link #getValueSourceControlData()} and used to retrieve
+	 *                    the value.
+	 * @param value       The retrieved value.
+	 * @param error       The error that occurred during the retrieval or null.
+	 */
+	public void setPrefetchedValue(IFieldControlData valueSource, Object value, Throwable error) {
+		if (valueSource != valueSourceControlData) {
+			return;
+		}
+		valuePrefetched = true;
+		prefetchedValue = value;
+		prefetchedValueError = error;
+	}
+
+	/**
+	 * Makes the field control retrieve again the field value itself.
+	 */
+	public void clearPrefetchedValue() {
+		valuePrefetched = false;
+		prefetchedValue = null;
+		prefetchedValueError = null;
+	}
+
+	public boolean isValueStale() {
+		return valueStale;
+	}
+
+	/**
+	 * Updates whether the field control is displayed as waiting for a new value.
+	 * 
+	 * @param valueStale The new status.
+	 */
+	public void setValueStale(boolean valueStale) {
+		if (this.valueStale == valueStale) {
+			return;
+		}
+		this.valueStale = valueStale;
+		repaint();
+	}
+
+	@Override
+	public void paint(Graphics g) {
+		super.paint(g);
+		if (valueStale) {
+			Graphics2D g2d = (Graphics2D) g.create();
+			try {
+				g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
+				g2d.setColor(getBackground());
+				g2d.fillRect(0, 0, getWidth(), getHeight());
+			} finally {
+				g2d.dispose();
+			}
+		}
+	}
+
 	protected IFieldControlData handleValueAccessIssues(final IFieldControlData data) {
 		return new ErrorHandlingFieldControlData(data, swingRenderer, FieldControlPlaceHolder.this) {
 
@@ -321,14 +507,16 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 	public void refreshUI(boolean refreshStructure) {
 		if (fieldControl == null) {
 			try {
-				fieldControl = createFieldControl();
 				/*
 				 * Save the criteria in a field since the controlData internal structure may
-				 * change:
+				 * change. They are computed before the control creation so that
+				 * getCurrentPlugin() can reuse them:
 				 */
 				lastFieldControlSelectionCriteria = getFieldControlSelectionCriteria(controlData);
+				fieldControl = createFieldControl();
 				fieldControl.setName("fieldControl [field=" + field.getName() + ", parent=" + form.getName() + "]");
 			} catch (Throwable t) {
+				lastFieldControlSelectionCriteria = null;
 				fieldControl = createFieldErrorControl(t);
 			}
 			layoutFieldControl();
@@ -357,6 +545,8 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 		if (refreshStructure) {
 			updateAutoRefeshState();
 		}
+		swingRenderer.getFieldAutoRefreshScheduler().handleRefresh(this,
+				valuePrefetched && (prefetchedValueError == null), prefetchedValue);
 	}
 
 	protected void layoutFieldControl() {
@@ -385,6 +575,7 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 		}
 		final IFieldInfo finalField = field;
 		IFieldControlData result = new FieldControlData(finalField);
+		result = handlePrefetchedValue(result);
 		result = handleValueAccessIssues(result);
 		result = makeFieldModificationsUndoable(result);
 		result = addControlAutoManagementStatusProperty(result);
@@ -592,8 +783,15 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 	}
 
 	public IFieldControlPlugin getCurrentPlugin() {
+		Map<String, Object> selectionCriteria = lastFieldControlSelectionCriteria;
+		if (selectionCriteria == null) {
+			selectionCriteria = getFieldControlSelectionCriteria(controlData);
+		}
+		if (selectionCriteria.get("fieldControlPluginIdentifier") == null) {
+			return null;
+		}
 		return SwingRendererUtils.getCurrentFieldControlPlugin(swingRenderer,
-				controlData.getType().getSpecificProperties(), this);
+				controlData.getType().getSpecificProperties(), this, selectionCriteria);
 	}
 
 	public boolean showsCaption() {
@@ -629,6 +827,13 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 			return finalField;
 		}
 
+		/**
+		 * @return the field control container that created this control data.
+		 */
+		public FieldControlPlaceHolder getFieldControlPlaceHolder() {
+			return FieldControlPlaceHolder.this;
+		}
+
 		private FieldControlPlaceHolder getEnclosingInstance() {
 			return FieldControlPlaceHolder.this;
 		}
@@ -665,58 +870,4 @@ public class FieldControlPlaceHolder extends ControlPanel implements IFieldContr
 
 	}
 
-	protected class AutoUpdater extends Timer {
-
-		private static final long serialVersionUID = 1L;
-
-		public AutoUpdater() {
-			super(-1, null);
-			setInitialDelay(0);
-			if (field.getAutoUpdatePeriodMilliseconds() > Integer.MAX_VALUE) {
-				setDelay(Integer.MAX_VALUE);
-			} else if (field.getAutoUpdatePeriodMilliseconds() < Integer.MIN_VALUE) {
-				setDelay(Integer.MIN_VALUE);
-			} else {
-				setDelay((int) field.getAutoUpdatePeriodMilliseconds());
-			}
-			addActionListener(new ActionListener() {
-				@Override
-				public void actionPerformed(ActionEvent e) {
-					executePeriodically();
-				}
-			});
-			setRepeats(true);
-		}
-
-		protected void executePeriodically() {
-			if (isWindowInactive()) {
-				return;
-			}
-			update();
-		}
-
-		protected boolean isWindowInactive() {
-			Window window = SwingUtilities.getWindowAncestor(FieldControlPlaceHolder.this);
-			if (window == null) {
-				return true;
-			}
-			if (!SwingRendererUtils.getFrontWindows().contains(window)) {
-				return true;
-			}
-			return false;
-		}
-
-		protected void update() {
-			refreshUI(false);
-			if (isLayoutInContainerUpdateNeeded()) {
-				form.updateFieldControlLayoutInContainer(FieldControlPlaceHolder.this);
-			}
-		}
-
-		public String toString() {
-			return "AutoUpdater of " + FieldControlPlaceHolder.this;
-		}
-
-	}
-
 }
@@ -16,14 +16,18 @@ import java.awt.LayoutManager;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.BorderFactory;
 import javax.swing.Icon;
@@ -38,12 +42,14 @@ import javax.swing.JScrollPane;
 import javax.swing.JTabbedPane;
 import javax.swing.JToolTip;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.border.Border;
 import javax.swing.border.EmptyBorder;
 import javax.swing.event.AncestorEvent;
 import javax.swing.event.AncestorListener;
 
 import xy.reflect.ui.ReflectionUI;
+import xy.reflect.ui.control.FieldControlDataProxy;
 import xy.reflect.ui.control.IAdvancedFieldControl;
 import xy.reflect.ui.control.IFieldControlData;
 import xy.reflect.ui.control.swing.menu.Menu;
@@ -67,7 +73,10 @@ import xy.reflect.ui.info.method.IMethodInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.info.type.ITypeInfo.MethodsLayout;
 import xy.reflect.ui.info.type.factory.FilteredTypeFactory;
+import xy.reflect.ui.undo.AbstractModification;
 import xy.reflect.ui.undo.AbstractSimpleModificationListener;
+import xy.reflect.ui.undo.CompositeModification;
+import xy.reflect.ui.undo.FieldControlDataModification;
 import xy.reflect.ui.undo.IModification;
 import xy.reflect.ui.undo.IModificationListener;
 import xy.reflect.ui.undo.ModificationStack;
@@ -85,7 +94,11 @@ import xy.reflect.ui.util.ReflectionUIUtils;
  * A {@link ModificationStack} is used to record and revert/replay
  * modifications. It is also used as modification event producer in order to
  * refresh and then keep the field controls up to date when a modification is
- * detected.
+ * detected. Note that when the modified fields can be identified, only the
+ * controls of these fields and of the fields that do not declare their
+ * dependencies (see {@link #FIELD_DEPENDENCIES_PROPERTY_KEY}) are refreshed.
+ * The field values are then retrieved in background before the controls are
+ * refreshed in a single batch.
  * 
  * @author olitank
  *
@@ -96,6 +109,23 @@ public class Form extends ImagePanel {
 
 	public static final String ACTION_MENU_ITEM_CONTEXT_FORM = Form.class.getName() + ".actionMenuItemContextForm";
 
+	/**
+	 * Key of the field specific property (see
+	 * {@link IFieldInfo#getSpecificProperties()}) that declares the names of the
+	 * other fields on which the field value depends, either as a
+	 * {@link Collection} or as a comma-separated {@link String}. The control of a
+	 * field that declares this property is refreshed after a modification only if
+	 * the field itself or one of its dependencies was modified. The control of a
+	 * field that does not declare it is refreshed after every modification.
+	 */
+	public static final String FIELD_DEPENDENCIES_PROPERTY_KEY = Form.class.getName() + ".FIELD_DEPENDENCIES";
+
+	/**
+	 * Delay after which the field controls waiting for their values are displayed
+	 * as stale.
+	 */
+	public static final int STALE_VALUE_INDICATION_DELAY_MILLISECONDS = 300;
+
 	protected SwingRenderer swingRenderer;
 	protected Object object;
 	protected ITypeInfo objectType;
@@ -107,6 +137,13 @@ public class Form extends ImagePanel {
 
 	protected Container categoriesControl;
 	protected IModificationListener fieldsUpdateListener = createFieldsUpdateListener();
+	protected Set<String> pendingModifiedFieldNames = new HashSet<String>();
+	protected boolean pendingFullFieldsUpdate = false;
+	protected Set<String> externallyModifiedFieldNames;
+	protected boolean externalFieldsUpdatePending = false;
+	protected volatile int valuePrefetchGeneration = 0;
+	protected boolean valuePrefetchInProgress = false;
+	protected Set<String> prefetchingModifiedFieldNames;
 	protected boolean visibilityEventsDisabled = false;
 	protected List<IRefreshListener> refreshListeners = new ArrayList<IRefreshListener>();
 	protected JLabel statusBar;
@@ -446,20 +483,293 @@ public class Form extends ImagePanel {
 				if (isFieldsUpdateListenerDisabled()) {
 					return;
 				}
+				recordFieldsUpdate(modification);
 				onFieldsUpdate();
 			}
 		};
 	}
 
+	/**
+	 * Records the fields affected by the given modification so that the next call
+	 * to {@link #takePendingModifiedFieldNames()} returns them.
+	 * 
+	 * @param modification The modification or null if the modification stack was
+	 *                     invalidated.
+	 */
+	protected synchronized void recordFieldsUpdate(IModification modification) {
+		Set<String> modifiedFieldNames = getModifiedFieldNames(modification);
+		if (modifiedFieldNames == null) {
+			pendingFullFieldsUpdate = true;
+		} else {
+			pendingModifiedFieldNames.addAll(modifiedFieldNames);
+		}
+	}
+
+	/**
+	 * @return the names of the fields affected by the modifications recorded since
+	 *         the last call to this method, null if they are unknown, or an empty
+	 *         set if no modification was recorded.
+	 */
+	protected synchronized Set<String> takePendingModifiedFieldNames() {
+		Set<String> result;
+		if (pendingFullFieldsUpdate) {
+			result = null;
+		} else {
+			result = new HashSet<String>(pendingModifiedFieldNames);
+		}
+		pendingFullFieldsUpdate = false;
+		pendingModifiedFieldNames.clear();
+		return result;
+	}
+
+	/**
+	 * Records the fields of the current object that were modified through another
+	 * form. The next call to {@link #refresh(boolean)} (typically triggered by the
+	 * invalidation of the modification stack of this form) will then only refresh
+	 * the affected field controls.
+	 * 
+	 * @param modifiedFieldNames The names of the modified fields or null if they
+	 *                           are unknown.
+	 */
+	public synchronized void recordExternalFieldsUpdate(Set<String> modifiedFieldNames) {
+		if (modifiedFieldNames == null) {
+			externallyModifiedFieldNames = null;
+		} else if (!externalFieldsUpdatePending) {
+			externallyModifiedFieldNames = new HashSet<String>(modifiedFieldNames);
+		} else if (externallyModifiedFieldNames != null) {
+			externallyModifiedFieldNames.addAll(modifiedFieldNames);
+		}
+		externalFieldsUpdatePending = true;
+	}
+
+	/**
+	 * @return the names of the fields recorded by
+	 *         {@link #recordExternalFieldsUpdate(Set)} since the last call to this
+	 *         method or null if they are unknown or if nothing was recorded.
+	 */
+	protected synchronized Set<String> takeExternallyModifiedFieldNames() {
+		if (!externalFieldsUpdatePending) {
+			return null;
+		}
+		Set<String> result = externallyModifiedFieldNames;
+		externalFieldsUpdatePending = false;
+		externallyModifiedFieldNames = null;
+		return result;
+	}
+
+	/**
+	 * Refreshes the form in 2 phases. The values of the affected fields are first
+	 * retrieved in parallel by the executor returned by
+	 * {@link SwingRenderer#getFieldValuePrefetcher()}. Then the controls are
+	 * refreshed in a single batch on the UI thread using these values. The
+	 * controls that are still waiting for their values after
+	 * {@link #STALE_VALUE_INDICATION_DELAY_MILLISECONDS} are displayed as stale.
+	 * Note that if another refresh of this kind is requested before the
+	 * completion of the current one, then the current one is abandoned and its
+	 * modified fields are refreshed by the new one.
+	 * 
+	 * Must be called from the UI thread.
+	 * 
+	 * @param newlyModifiedFieldNames The names of the fields that were modified
+	 *                                since the last refresh or null if they are
+	 *                                unknown.
+	 */
+	protected void refreshWithPrefetchedValues(Set<String> newlyModifiedFieldNames) {
+		final Set<String> modifiedFieldNames;
+		if (valuePrefetchInProgress) {
+			if ((prefetchingModifiedFieldNames == null) || (newlyModifiedFieldNames == null)) {
+				modifiedFieldNames = null;
+			} else {
+				modifiedFieldNames = new HashSet<String>(prefetchingModifiedFieldNames);
+				modifiedFieldNames.addAll(newlyModifiedFieldNames);
+			}
+		} else {
+			modifiedFieldNames = newlyModifiedFieldNames;
+		}
+		final List<FieldControlPlaceHolder> fieldControlPlaceHolders = new ArrayList<FieldControlPlaceHolder>();
+		for (List<FieldControlPlaceHolder> categoryFieldControlPlaceHolders : fieldControlPlaceHoldersByCategory
+				.values()) {
+			for (FieldControlPlaceHolder fieldControlPlaceHolder : categoryFieldControlPlaceHolders) {
+				if ((fieldControlPlaceHolder.getFieldControl() != null)
+						&& isFieldRefreshNeeded(fieldControlPlaceHolder.getField(), modifiedFieldNames)) {
+					fieldControlPlaceHolders.add(fieldControlPlaceHolder);
+				}
+			}
+		}
+		final int generation = ++valuePrefetchGeneration;
+		if (fieldControlPlaceHolders.size() == 0) {
+			valuePrefetchInProgress = false;
+			prefetchingModifiedFieldNames = null;
+			refresh(false, modifiedFieldNames);
+			return;
+		}
+		valuePrefetchInProgress = true;
+		prefetchingModifiedFieldNames = modifiedFieldNames;
+		final Runnable[] valueApplicationJobs = new Runnable[fieldControlPlaceHolders.size()];
+		final AtomicInteger remainingPrefetchCount = new AtomicInteger(fieldControlPlaceHolders.size());
+		final Timer staleValueIndicationTimer = new Timer(STALE_VALUE_INDICATION_DELAY_MILLISECONDS,
+				new ActionListener() {
+					@Override
+					public void actionPerformed(ActionEvent e) {
+						if (generation != valuePrefetchGeneration) {
+							return;
+						}
+						for (int i = 0; i < fieldControlPlaceHolders.size(); i++) {
+							fieldControlPlaceHolders.get(i).setValueStale(true);
+						}
+					}
+				});
+		staleValueIndicationTimer.setRepeats(false);
+		staleValueIndicationTimer.start();
+		for (int i = 0; i < fieldControlPlaceHolders.size(); i++) {
+			final int index = i;
+			swingRenderer.getFieldValuePrefetcher().submit(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						if (generation == valuePrefetchGeneration) {
+							valueApplicationJobs[index] = fieldControlPlaceHolders.get(index).prefetchValue();
+						}
+					} finally {
+						if (remainingPrefetchCount.decrementAndGet() == 0) {
+							SwingUtilities.invokeLater(new Runnable() {
+								@Override
+								public void run() {
+									staleValueIndicationTimer.stop();
+									if (generation != valuePrefetchGeneration) {
+										return;
+									}
+									for (FieldControlPlaceHolder fieldControlPlaceHolder : fieldControlPlaceHolders) {
+										fieldControlPlaceHolder.setValueStale(false);
+									}
+									valuePrefetchInProgress = false;
+									prefetchingModifiedFieldNames = null;
+									applyPrefetchedValues(fieldControlPlaceHolders, valueApplicationJobs,
+											modifiedFieldNames);
+								}
+							});
+						}
+					}
+				}
+			});
+		}
+	}
+
+	protected void applyPrefetchedValues(List<FieldControlPlaceHolder> fieldControlPlaceHolders,
+			Runnable[] valueApplicationJobs, Set<String> modifiedFieldNames) {
+		try {
+			for (Runnable valueApplicationJob : valueApplicationJobs) {
+				if (valueApplicationJob != null) {
+					valueApplicationJob.run();
+				}
+			}
+			refresh(false, modifiedFieldNames);
+		} finally {
+			for (FieldControlPlaceHolder fieldControlPlaceHolder : fieldControlPlaceHolders) {
+				fieldControlPlaceHolder.clearPrefetchedValue();
+			}
+		}
+	}
+
+	/**
+	 * @param modification The modification.
+	 * @return the names of the fields of this form that are directly updated by the
+	 *         given modification or null if they cannot be identified.
+	 */
+	protected Set<String> getModifiedFieldNames(IModification modification) {
+		if (modification == null) {
+			return null;
+		}
+		if (modification instanceof AbstractModification.OppositeModification) {
+			return getModifiedFieldNames(
+					((AbstractModification.OppositeModification) modification).getSourceModification());
+		}
+		if (modification instanceof CompositeModification) {
+			Set<String> result = new HashSet<String>();
+			for (IModification subModification : ((CompositeModification) modification).getModifications()) {
+				Set<String> subResult = getModifiedFieldNames(subModification);
+				if (subResult == null) {
+					return null;
+				}
+				result.addAll(subResult);
+			}
+			return result;
+		}
+		if (modification instanceof FieldControlDataModification) {
+			FieldControlPlaceHolder fieldControlPlaceHolder = findFieldControlPlaceHolder(
+					((FieldControlDataModification) modification).getData());
+			if (fieldControlPlaceHolder != null) {
+				return Collections.singleton(fieldControlPlaceHolder.getField().getName());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param data A field control data.
+	 * @return the field control container of this form that provided the given
+	 *         control data (possibly through proxies) or null if it cannot be found.
+	 */
+	protected FieldControlPlaceHolder findFieldControlPlaceHolder(IFieldControlData data) {
+		while (data instanceof FieldControlDataProxy) {
+			data = ((FieldControlDataProxy) data).getBase();
+		}
+		if (data instanceof FieldControlPlaceHolder.FieldControlData) {
+			FieldControlPlaceHolder result = ((FieldControlPlaceHolder.FieldControlData) data)
+					.getFieldControlPlaceHolder();
+			if (result.getForm() == this) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param field              A field of this form.
+	 * @param modifiedFieldNames The names of the modified fields or null if they
+	 *                           are unknown.
+	 * @return whether the control of the given field needs to be refreshed after
+	 *         the modification of the specified fields.
+	 */
+	protected boolean isFieldRefreshNeeded(IFieldInfo field, Set<String> modifiedFieldNames) {
+		if (modifiedFieldNames == null) {
+			return true;
+		}
+		if (modifiedFieldNames.contains(field.getName())) {
+			return true;
+		}
+		Object dependencies = field.getSpecificProperties().get(FIELD_DEPENDENCIES_PROPERTY_KEY);
+		if (dependencies == null) {
+			return true;
+		}
+		Collection<?> dependencyNames;
+		if (dependencies instanceof Collection) {
+			dependencyNames = (Collection<?>) dependencies;
+		} else {
+			dependencyNames = Arrays.asList(dependencies.toString().split(","));
+		}
+		for (Object dependencyName : dependencyNames) {
+			if ((dependencyName != null) && modifiedFieldNames.contains(dependencyName.toString().trim())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected void onFieldsUpdate() {
 		SwingUtilities.invokeLater(new Runnable() {
 			@Override
 			public void run() {
-				refresh(false);
+				Set<String> modifiedFieldNames = takePendingModifiedFieldNames();
+				if ((modifiedFieldNames != null) && (modifiedFieldNames.size() == 0)) {
+					return;
+				}
+				refreshWithPrefetchedValues(modifiedFieldNames);
 				for (Form otherForm : SwingRendererUtils.findObjectDisplayedForms(object, swingRenderer)) {
 					if (otherForm != Form.this) {
 						ModificationStack otherModifStack = otherForm.getModificationStack();
 						if (otherForm.isDisplayable()) {
+							otherForm.recordExternalFieldsUpdate(modifiedFieldNames);
 							otherForm.setFieldsUpdateListenerDisabled(true);
 							otherModifStack.invalidate();
 							otherForm.setFieldsUpdateListenerDisabled(false);
@@ -1019,7 +1329,10 @@ public class Form extends ImagePanel {
 	}
 
 	/**
-	 * Updates the state of the current form controls.
+	 * Updates the state of the current form controls. Note that if the object
+	 * fields modified through other forms were recorded (see
+	 * {@link #recordExternalFieldsUpdate(Set)}), then only the affected field
+	 * controls are refreshed.
 	 * 
 	 * @param refreshStructure Whether the current form should update its structure
 	 *                         to reflect the recent meta-data changes. Mainly used
@@ -1027,6 +1340,22 @@ public class Form extends ImagePanel {
 	 * 
 	 */
 	public void refresh(boolean refreshStructure) {
+		Set<String> modifiedFieldNames = takeExternallyModifiedFieldNames();
+		refresh(refreshStructure, refreshStructure ? null : modifiedFieldNames);
+	}
+
+	/**
+	 * Updates the state of the current form controls.
+	 * 
+	 * @param refreshStructure   Whether the current form should update its
+	 *                           structure to reflect the recent meta-data changes.
+	 *                           Mainly used in design mode.
+	 * @param modifiedFieldNames The names of the fields that were modified since the
+	 *                           last refresh (allows to skip the refresh of the
+	 *                           unaffected field controls) or null if they are
+	 *                           unknown. Ignored if refreshStructure is true.
+	 */
+	protected void refresh(boolean refreshStructure, Set<String> modifiedFieldNames) {
 		if (refreshStructure && detectStructureChange()) {
 			InfoCategory initiallySelectedCategory = null;
 			{
@@ -1067,6 +1396,10 @@ public class Form extends ImagePanel {
 						.get(category);
 				for (int i = 0; i < fieldControlPlaceHolders.size(); i++) {
 					FieldControlPlaceHolder fieldControlPlaceHolder = fieldControlPlaceHolders.get(i);
+					if (!refreshStructure
+							&& !isFieldRefreshNeeded(fieldControlPlaceHolder.getField(), modifiedFieldNames)) {
+						continue;
+					}
 					fieldControlPlaceHolder.refreshUI(refreshStructure);
 					if (refreshStructure) {
 						updateFieldControlLayoutInContainer(fieldControlPlaceHolder);
@@ -1267,11 +1600,9 @@ public class Form extends ImagePanel {
 			@Override
 			public IMenuElementInfo get(IMenuElementInfo e) {
 				if (e instanceof AbstractActionMenuItemInfo) {
-					AbstractActionMenuItemInfo action = (AbstractActionMenuItemInfo) e;
-					Map<String, Object> specificProperties = new HashMap<String, Object>(
-							action.getSpecificProperties());
-					specificProperties.put(ACTION_MENU_ITEM_CONTEXT_FORM, Form.this);
-					action.setSpecificProperties(specificProperties);
+					AbstractActionMenuItemInfo action = ((AbstractActionMenuItemInfo) e).copy();
+					action.getSpecificProperties().put(ACTION_MENU_ITEM_CONTEXT_FORM, Form.this);
+					return action;
 				}
 				return e;
 			}
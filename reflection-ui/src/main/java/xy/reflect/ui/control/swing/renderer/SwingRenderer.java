@@ -12,6 +12,7 @@ import java.awt.event.ActionListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -35,6 +36,7 @@ import org.jdesktop.swingx.JXBusyLabel;
 import xy.reflect.ui.ReflectionUI;
 import xy.reflect.ui.control.DefaultMethodControlData;
 import xy.reflect.ui.control.IContext;
+import xy.reflect.ui.control.IFieldControlInput;
 import xy.reflect.ui.control.IMethodControlData;
 import xy.reflect.ui.control.IMethodControlInput;
 import xy.reflect.ui.control.MethodContext;
@@ -75,6 +77,7 @@ import xy.reflect.ui.info.type.factory.GenericEnumerationFactory;
 import xy.reflect.ui.info.type.factory.PolymorphicTypeOptionsFactory;
 import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
 import xy.reflect.ui.undo.ModificationStack;
+import xy.reflect.ui.util.CacheRegistry;
 import xy.reflect.ui.util.ClassUtils;
 import xy.reflect.ui.util.MiscUtils;
 import xy.reflect.ui.util.ReflectionUIError;
@@ -160,6 +163,21 @@ public class SwingRenderer {
 			+ ".delayedUpdateExecutor";
 	protected ExecutorService delayedUpdateExecutor = MiscUtils.newExecutor(DELAYED_UPDATE_EXECUTOR_NAME, 1);
 
+	protected static final String CELL_VALUE_COMPUTER_NAME = SwingRenderer.class.getName() + ".cellValueComputer";
+	protected ExecutorService cellValueComputer = MiscUtils.newBoundedExecutor(CELL_VALUE_COMPUTER_NAME,
+			Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+
+	protected static final String FIELD_VALUE_PREFETCHER_NAME = SwingRenderer.class.getName()
+			+ ".fieldValuePrefetcher";
+	protected ExecutorService fieldValuePrefetcher = MiscUtils.newBoundedExecutor(FIELD_VALUE_PREFETCHER_NAME,
+			Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+
+	protected FieldAutoRefreshScheduler fieldAutoRefreshScheduler = new FieldAutoRefreshScheduler(this);
+
+	protected List<IFieldControlPlugin> fieldControlPlugins;
+	protected Map<List<Object>, Boolean> fieldControlPluginApplicabilityCache = CacheRegistry
+			.newStandardMap(SwingRenderer.class.getName() + ".fieldControlPluginApplicabilityCache");
+
 	/**
 	 * Constructs an instance that will render abstract UI models generated by the
 	 * given {@link ReflectionUI} object.
@@ -192,6 +210,31 @@ public class SwingRenderer {
 		return delayedUpdateExecutor;
 	}
 
+	/**
+	 * @return a bounded executor service intended to compute the values displayed
+	 *         in generated list control cells. Tasks are executed in their
+	 *         submission order.
+	 */
+	public ExecutorService getCellValueComputer() {
+		return cellValueComputer;
+	}
+
+	/**
+	 * @return a bounded executor service intended to retrieve the field values
+	 *         before the generated forms are refreshed.
+	 */
+	public ExecutorService getFieldValuePrefetcher() {
+		return fieldValuePrefetcher;
+	}
+
+	/**
+	 * @return the scheduler of the periodic refreshes of the generated field
+	 *         controls.
+	 */
+	public FieldAutoRefreshScheduler getFieldAutoRefreshScheduler() {
+		return fieldAutoRefreshScheduler;
+	}
+
 	/**
 	 * @return all displayed forms that were generated using this renderer.
 	 */
@@ -246,9 +289,22 @@ public class SwingRenderer {
 	}
 
 	/**
-	 * @return the plugins providing additional field controls.
+	 * @return the plugins providing additional field controls. Note that they are
+	 *         instantiated only once by {@link #createFieldControlPlugins()}.
 	 */
 	public List<IFieldControlPlugin> getFieldControlPlugins() {
+		synchronized (this) {
+			if (fieldControlPlugins == null) {
+				fieldControlPlugins = Collections.unmodifiableList(createFieldControlPlugins());
+			}
+			return fieldControlPlugins;
+		}
+	}
+
+	/**
+	 * @return new instances of the plugins providing additional field controls.
+	 */
+	protected List<IFieldControlPlugin> createFieldControlPlugins() {
 		List<IFieldControlPlugin> result = new ArrayList<IFieldControlPlugin>();
 		result.add(new OptionButtonsPlugin());
 		result.add(new SliderPlugin());
@@ -268,6 +324,37 @@ public class SwingRenderer {
 		return result;
 	}
 
+	/**
+	 * @param plugin            A field control plugin.
+	 * @param input             The field control input.
+	 * @param selectionCriteria The characteristics of the field control input
+	 *                          that determine whether the plugin can handle it
+	 *                          (the field type name among others).
+	 * @return the result of {@link IFieldControlPlugin#handles(IFieldControlInput)},
+	 *         cached for the given plugin identifier and selection criteria, as
+	 *         long as the {@link #getInfoRevision()} return value does not change.
+	 */
+	public boolean isFieldControlPluginApplicable(IFieldControlPlugin plugin, IFieldControlInput input,
+			Map<String, Object> selectionCriteria) {
+		List<Object> cacheKey = Arrays.<Object>asList(plugin.getIdentifier(), selectionCriteria, getInfoRevision());
+		Boolean result = fieldControlPluginApplicabilityCache.get(cacheKey);
+		if (result == null) {
+			result = plugin.handles(input);
+			fieldControlPluginApplicabilityCache.put(cacheKey, result);
+		}
+		return result;
+	}
+
+	/**
+	 * @return a number that changes whenever the information provided by the
+	 *         {@link #getReflectionUI()} return value may change (typically when
+	 *         customizations are edited). Allows to invalidate the decisions cached
+	 *         by this renderer. By default 0 is returned.
+	 */
+	protected long getInfoRevision() {
+		return 0;
+	}
+
 	/**
 	 * @return the virtual category in which non-categorized members will be put
 	 *         when there are at least 1 defined category.
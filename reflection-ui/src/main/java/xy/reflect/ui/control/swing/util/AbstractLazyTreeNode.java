@@ -37,6 +37,18 @@ public abstract class AbstractLazyTreeNode extends DefaultMutableTreeNode {
 		}
 	}
 
+	/**
+	 * Discards the loaded children nodes (if any) so that they will be created
+	 * again on demand.
+	 */
+	public void unloadChildren() {
+		if (!childrenLoaded) {
+			return;
+		}
+		super.removeAllChildren();
+		childrenLoaded = false;
+	}
+
 	@Override
 	public int getIndex(TreeNode aChild) {
 		ensureChildrenAreLoaded();
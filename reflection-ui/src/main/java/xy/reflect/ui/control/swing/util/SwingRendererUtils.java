@@ -44,6 +44,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
@@ -89,6 +90,7 @@ import xy.reflect.ui.info.field.IFieldInfo;
 import xy.reflect.ui.info.method.InvocationData;
 import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.undo.ModificationStack;
+import xy.reflect.ui.util.CacheRegistry;
 import xy.reflect.ui.util.Listener;
 import xy.reflect.ui.util.MiscUtils;
 import xy.reflect.ui.util.ReflectionUIError;
@@ -114,8 +116,15 @@ public class SwingRendererUtils {
 	public static final ImageIcon SAVE_ALL_ICON = new ImageIcon(
 			ReflectionUI.class.getResource("resource/save-all.png"));
 
-	public static Map<String, Image> IMAGE_CACHE = new HashMap<String, Image>();
-	public static Map<String, Font> FONT_CACHE = new HashMap<String, Font>();
+	public static Map<String, Image> IMAGE_CACHE = CacheRegistry
+			.newStandardMap(SwingRendererUtils.class.getName() + ".IMAGE_CACHE");
+	public static Map<String, Font> FONT_CACHE = CacheRegistry
+			.newStandardMap(SwingRendererUtils.class.getName() + ".FONT_CACHE");
+	/**
+	 * Images put in memory by {@link #putImageInCache(Image)} cannot be reloaded.
+	 * They are then stored outside of the size-bounded {@link #IMAGE_CACHE}.
+	 */
+	public static Map<String, Image> MEMORY_IMAGE_CACHE = new ConcurrentHashMap<String, Image>();
 
 	private static final Map<GraphicsDevice, Rectangle> MAXIMUM_BOUNDS_BY_GRAPHIC_DEVICE_CACHE = new HashMap<GraphicsDevice, Rectangle>();
 
@@ -549,7 +558,7 @@ public class SwingRendererUtils {
 	public static ResourcePath putImageInCache(Image image) {
 		String imagePathSpecification = ResourcePath.specifyMemoryObjectLocation(
 				image.getClass().getName() + "-" + Integer.toString(image.hashCode()));
-		SwingRendererUtils.IMAGE_CACHE.put(imagePathSpecification, image);
+		SwingRendererUtils.MEMORY_IMAGE_CACHE.put(imagePathSpecification, image);
 		return new ResourcePath(imagePathSpecification);
 	}
 
@@ -558,7 +567,11 @@ public class SwingRendererUtils {
 			return null;
 		}
 		if (imagePath.getPathKind() == PathKind.MEMORY_OBJECT) {
-			return SwingRendererUtils.IMAGE_CACHE.get(imagePath.getSpecification());
+			Image result = SwingRendererUtils.MEMORY_IMAGE_CACHE.get(imagePath.getSpecification());
+			if (result == null) {
+				result = SwingRendererUtils.IMAGE_CACHE.get(imagePath.getSpecification());
+			}
+			return result;
 		}
 		Image result = SwingRendererUtils.IMAGE_CACHE.get(imagePath.getSpecification());
 		if (result == null) {
@@ -974,11 +987,19 @@ public class SwingRendererUtils {
 
 	public static IFieldControlPlugin getCurrentFieldControlPlugin(SwingRenderer swingRenderer,
 			Map<String, Object> specificProperties, IFieldControlInput input) {
+		return getCurrentFieldControlPlugin(swingRenderer, specificProperties, input, null);
+	}
+
+	public static IFieldControlPlugin getCurrentFieldControlPlugin(SwingRenderer swingRenderer,
+			Map<String, Object> specificProperties, IFieldControlInput input, Map<String, Object> selectionCriteria) {
 		String chosenPluginId = ReflectionUIUtils.getFieldControlPluginIdentifier(specificProperties);
 		if (chosenPluginId != null) {
 			IFieldControlPlugin plugin = findFieldControlPlugin(swingRenderer, chosenPluginId);
 			if (plugin != null) {
-				if (plugin.handles(input)) {
+				boolean applicable = (selectionCriteria != null)
+						? swingRenderer.isFieldControlPluginApplicable(plugin, input, selectionCriteria)
+						: plugin.handles(input);
+				if (applicable) {
 					return plugin;
 				}
 			}
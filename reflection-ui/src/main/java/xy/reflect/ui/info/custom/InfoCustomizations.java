@@ -68,6 +68,7 @@ import xy.reflect.ui.util.ClassUtils;
 import xy.reflect.ui.util.Filter;
 import xy.reflect.ui.util.IOUtils;
 import xy.reflect.ui.util.Listener;
+import xy.reflect.ui.util.Mapper;
 import xy.reflect.ui.util.MiscUtils;
 import xy.reflect.ui.util.Parameter;
 import xy.reflect.ui.util.ReflectionUIError;
@@ -825,6 +826,8 @@ public class InfoCustomizations implements Serializable {
 
 	public static final String UID_FIELD_NAME = "uniqueIdentifier";
 	public static final Object INITIAL_STATE_FIELD_NAME = "initial";
+	public static final String REVISION_FIELD_NAME = "revision";
+	public static final String CHANGE_NOTIFICATION_METHOD_NAME = "notifyChange";
 
 	public static InfoCustomizations defaultInstance;
 	/**
@@ -837,6 +840,11 @@ public class InfoCustomizations implements Serializable {
 	protected List<EnumerationCustomization> enumerationCustomizations = new ArrayList<InfoCustomizations.EnumerationCustomization>();
 
 	protected transient Migrator migrator = new Migrator();
+	protected transient volatile long revision = 0;
+
+	protected transient CustomizationIndex<String, TypeCustomization> typeCustomizationIndex;
+	protected transient CustomizationIndex<List<String>, ListCustomization> listCustomizationIndex;
+	protected transient CustomizationIndex<String, EnumerationCustomization> enumerationCustomizationIndex;
 
 	/**
 	 * @return the default instance of this class. Note that it may try to load the
@@ -876,12 +884,85 @@ public class InfoCustomizations implements Serializable {
 	public InfoCustomizations() {
 	}
 
+	/**
+	 * @return the revision number of these customizations. This number is
+	 *         incremented by {@link #notifyChange()} and allows to detect that
+	 *         the caches depending on these customizations are obsolete.
+	 */
+	public long getRevision() {
+		return revision;
+	}
+
+	/**
+	 * Must be called after each modification of these customizations (the
+	 * creation of initial customizations excepted) so that the caches depending
+	 * on them get invalidated.
+	 */
+	public synchronized void notifyChange() {
+		revision++;
+		if (typeCustomizationIndex != null) {
+			typeCustomizationIndex.invalidate();
+		}
+		if (listCustomizationIndex != null) {
+			listCustomizationIndex.invalidate();
+		}
+		if (enumerationCustomizationIndex != null) {
+			enumerationCustomizationIndex.invalidate();
+		}
+		for (TypeCustomization tc : typeCustomizations) {
+			tc.invalidateMemberCustomizationIndexes();
+		}
+	}
+
+	protected synchronized CustomizationIndex<String, TypeCustomization> getTypeCustomizationIndex() {
+		if (typeCustomizationIndex == null) {
+			typeCustomizationIndex = new CustomizationIndex<String, TypeCustomization>(
+					new Mapper<TypeCustomization, String>() {
+						@Override
+						public String get(TypeCustomization t) {
+							return t.getTypeName();
+						}
+					});
+		}
+		return typeCustomizationIndex;
+	}
+
+	protected synchronized CustomizationIndex<List<String>, ListCustomization> getListCustomizationIndex() {
+		if (listCustomizationIndex == null) {
+			listCustomizationIndex = new CustomizationIndex<List<String>, ListCustomization>(
+					new Mapper<ListCustomization, List<String>>() {
+						@Override
+						public List<String> get(ListCustomization l) {
+							if (l.getListTypeName() == null) {
+								return null;
+							}
+							return Arrays.asList(l.getListTypeName(), l.getItemTypeName());
+						}
+					});
+		}
+		return listCustomizationIndex;
+	}
+
+	protected synchronized CustomizationIndex<String, EnumerationCustomization> getEnumerationCustomizationIndex() {
+		if (enumerationCustomizationIndex == null) {
+			enumerationCustomizationIndex = new CustomizationIndex<String, EnumerationCustomization>(
+					new Mapper<EnumerationCustomization, String>() {
+						@Override
+						public String get(EnumerationCustomization e) {
+							return e.getEnumerationTypeName();
+						}
+					});
+		}
+		return enumerationCustomizationIndex;
+	}
+
 	public ApplicationCustomization getAppplicationCustomization() {
 		return appplicationCustomization;
 	}
 
 	public void setAppplicationCustomization(ApplicationCustomization appplicationCustomization) {
 		this.appplicationCustomization = appplicationCustomization;
+		notifyChange();
 	}
 
 	public List<TypeCustomization> getTypeCustomizations() {
@@ -890,6 +971,7 @@ public class InfoCustomizations implements Serializable {
 
 	public void setTypeCustomizations(List<TypeCustomization> typeCustomizations) {
 		this.typeCustomizations = typeCustomizations;
+		notifyChange();
 	}
 
 	public List<ListCustomization> getListCustomizations() {
@@ -898,6 +980,7 @@ public class InfoCustomizations implements Serializable {
 
 	public void setListCustomizations(List<ListCustomization> listCustomizations) {
 		this.listCustomizations = listCustomizations;
+		notifyChange();
 	}
 
 	public List<EnumerationCustomization> getEnumerationCustomizations() {
@@ -906,6 +989,7 @@ public class InfoCustomizations implements Serializable {
 
 	public void setEnumerationCustomizations(List<EnumerationCustomization> enumerationCustomizations) {
 		this.enumerationCustomizations = enumerationCustomizations;
+		notifyChange();
 	}
 
 	public void loadFromFile(File input, Listener<String> debugLogListener) throws IOException {
@@ -936,6 +1020,7 @@ public class InfoCustomizations implements Serializable {
 
 		fillXMLSerializationGap();
 		migrator.migrate();
+		notifyChange();
 	}
 
 	protected void fillXMLSerializationGap() {
@@ -1070,6 +1155,7 @@ public class InfoCustomizations implements Serializable {
 				continue;
 			}
 		}
+		infoCustomizations.notifyChange();
 	}
 
 	public static boolean isSimilar(final AbstractCustomization c1, final AbstractCustomization c2,
@@ -1198,17 +1284,19 @@ public class InfoCustomizations implements Serializable {
 	public static FieldCustomization getFieldCustomization(TypeCustomization t, String fieldName,
 			boolean createIfNotFound) {
 		if (t != null) {
-			for (FieldCustomization f : t.getFieldsCustomizations()) {
-				if (fieldName.equals(f.getFieldName())) {
+			CustomizationIndex<String, FieldCustomization> index = t.getFieldCustomizationIndex();
+			synchronized (index) {
+				FieldCustomization result = index.find(t.getFieldsCustomizations(), fieldName);
+				if (result != null) {
+					return result;
+				}
+				if (createIfNotFound) {
+					FieldCustomization f = new FieldCustomization();
+					f.setFieldName(fieldName);
+					index.add(t.getFieldsCustomizations(), f);
 					return f;
 				}
 			}
-			if (createIfNotFound) {
-				FieldCustomization f = new FieldCustomization();
-				f.setFieldName(fieldName);
-				t.getFieldsCustomizations().add(f);
-				return f;
-			}
 		}
 		return null;
 	}
@@ -1220,17 +1308,19 @@ public class InfoCustomizations implements Serializable {
 	public static MethodCustomization getMethodCustomization(TypeCustomization t, String methodSignature,
 			boolean createIfNotFound) {
 		if (t != null) {
-			for (MethodCustomization m : t.getMethodsCustomizations()) {
-				if (methodSignature.equals(m.getMethodSignature())) {
+			CustomizationIndex<String, MethodCustomization> index = t.getMethodCustomizationIndex();
+			synchronized (index) {
+				MethodCustomization result = index.find(t.getMethodsCustomizations(), methodSignature);
+				if (result != null) {
+					return result;
+				}
+				if (createIfNotFound) {
+					MethodCustomization m = new MethodCustomization();
+					m.setMethodSignature(methodSignature);
+					index.add(t.getMethodsCustomizations(), m);
 					return m;
 				}
 			}
-			if (createIfNotFound) {
-				MethodCustomization m = new MethodCustomization();
-				m.setMethodSignature(methodSignature);
-				t.getMethodsCustomizations().add(m);
-				return m;
-			}
 		}
 		return null;
 	}
@@ -1241,17 +1331,19 @@ public class InfoCustomizations implements Serializable {
 
 	public static TypeCustomization getTypeCustomization(InfoCustomizations infoCustomizations, String typeName,
 			boolean createIfNotFound) {
-		for (TypeCustomization t : infoCustomizations.getTypeCustomizations()) {
-			if (typeName.equals(t.getTypeName())) {
+		CustomizationIndex<String, TypeCustomization> index = infoCustomizations.getTypeCustomizationIndex();
+		synchronized (index) {
+			TypeCustomization result = index.find(infoCustomizations.getTypeCustomizations(), typeName);
+			if (result != null) {
+				return result;
+			}
+			if (createIfNotFound) {
+				TypeCustomization t = new TypeCustomization();
+				t.setTypeName(typeName);
+				index.add(infoCustomizations.getTypeCustomizations(), t);
 				return t;
 			}
 		}
-		if (createIfNotFound) {
-			TypeCustomization t = new TypeCustomization();
-			t.setTypeName(typeName);
-			infoCustomizations.getTypeCustomizations().add(t);
-			return t;
-		}
 		return null;
 	}
 
@@ -1263,19 +1355,20 @@ public class InfoCustomizations implements Serializable {
 
 	public static ListCustomization getListCustomization(InfoCustomizations infoCustomizations, String listTypeName,
 			String itemTypeName, boolean createIfNotFound) {
-		for (ListCustomization l : infoCustomizations.getListCustomizations()) {
-			if (listTypeName.equals(l.getListTypeName())) {
-				if (MiscUtils.equalsOrBothNull(l.getItemTypeName(), itemTypeName)) {
-					return l;
-				}
+		CustomizationIndex<List<String>, ListCustomization> index = infoCustomizations.getListCustomizationIndex();
+		synchronized (index) {
+			ListCustomization result = index.find(infoCustomizations.getListCustomizations(),
+					Arrays.asList(listTypeName, itemTypeName));
+			if (result != null) {
+				return result;
+			}
+			if (createIfNotFound) {
+				ListCustomization l = new ListCustomization();
+				l.setListTypeName(listTypeName);
+				l.setItemTypeName(itemTypeName);
+				index.add(infoCustomizations.getListCustomizations(), l);
+				return l;
 			}
-		}
-		if (createIfNotFound) {
-			ListCustomization l = new ListCustomization();
-			l.setListTypeName(listTypeName);
-			l.setItemTypeName(itemTypeName);
-			infoCustomizations.getListCustomizations().add(l);
-			return l;
 		}
 		return null;
 	}
@@ -1328,17 +1421,21 @@ public class InfoCustomizations implements Serializable {
 
 	public static EnumerationCustomization getEnumerationCustomization(InfoCustomizations infoCustomizations,
 			String enumTypeName, boolean createIfNotFound) {
-		for (EnumerationCustomization e : infoCustomizations.getEnumerationCustomizations()) {
-			if (enumTypeName.equals(e.getEnumerationTypeName())) {
+		CustomizationIndex<String, EnumerationCustomization> index = infoCustomizations
+				.getEnumerationCustomizationIndex();
+		synchronized (index) {
+			EnumerationCustomization result = index.find(infoCustomizations.getEnumerationCustomizations(),
+					enumTypeName);
+			if (result != null) {
+				return result;
+			}
+			if (createIfNotFound) {
+				EnumerationCustomization e = new EnumerationCustomization();
+				e.setEnumerationTypeName(enumTypeName);
+				index.add(infoCustomizations.getEnumerationCustomizations(), e);
 				return e;
 			}
 		}
-		if (createIfNotFound) {
-			EnumerationCustomization e = new EnumerationCustomization();
-			e.setEnumerationTypeName(enumTypeName);
-			infoCustomizations.getEnumerationCustomizations().add(e);
-			return e;
-		}
 		return null;
 	}
 
@@ -1402,6 +1499,68 @@ public class InfoCustomizations implements Serializable {
 		return newOrder;
 	}
 
+	/**
+	 * Hash index allowing to quickly find the element of a customizations list
+	 * that has a given key. The index is rebuilt lazily when the indexed list
+	 * instance or size changes, or after {@link #invalidate()} has been called,
+	 * which happens when the key of an indexed customization is modified or when
+	 * {@link InfoCustomizations#notifyChange()} is called on the owning
+	 * {@link InfoCustomizations} instance.
+	 * 
+	 * @author olitank
+	 *
+	 * @param <K> The key type.
+	 * @param <T> The indexed elements type.
+	 */
+	protected static class CustomizationIndex<K, T extends AbstractCustomization> {
+
+		protected Mapper<T, K> keyMapper;
+		protected Map<K, T> elementByKey = new HashMap<K, T>();
+		protected List<T> indexedList;
+		protected int indexedListSize;
+
+		public CustomizationIndex(Mapper<T, K> keyMapper) {
+			this.keyMapper = keyMapper;
+		}
+
+		public synchronized T find(List<T> list, K key) {
+			if ((list != indexedList) || (list.size() != indexedListSize)) {
+				rebuild(list);
+			}
+			return elementByKey.get(key);
+		}
+
+		public synchronized void add(List<T> list, T element) {
+			list.add(element);
+			if (list == indexedList) {
+				index(element);
+				indexedListSize = list.size();
+			}
+		}
+
+		public synchronized void invalidate() {
+			indexedList = null;
+		}
+
+		protected void rebuild(List<T> list) {
+			elementByKey.clear();
+			for (T element : list) {
+				index(element);
+			}
+			indexedList = list;
+			indexedListSize = list.size();
+		}
+
+		protected void index(T element) {
+			element.containingIndex = this;
+			K key = keyMapper.get(element);
+			if ((key != null) && !elementByKey.containsKey(key)) {
+				elementByKey.put(key, element);
+			}
+		}
+
+	}
+
 	public static abstract class AbstractCustomization implements Serializable {
 		private static final long serialVersionUID = 1L;
 
@@ -1414,6 +1573,14 @@ public class InfoCustomizations implements Serializable {
 		}
 
 		protected String uniqueIdentifier = new UID().toString();
+		protected transient CustomizationIndex<?, ?> containingIndex;
+
+		protected void invalidateContainingIndex() {
+			CustomizationIndex<?, ?> index = containingIndex;
+			if (index != null) {
+				index.invalidate();
+			}
+		}
 
 		public String getUniqueIdentifier() {
 			return uniqueIdentifier;
@@ -2080,6 +2247,9 @@ public class InfoCustomizations implements Serializable {
 		protected boolean copyForbidden = false;
 		protected Integer formSpacing;
 
+		protected transient CustomizationIndex<String, FieldCustomization> fieldCustomizationIndex;
+		protected transient CustomizationIndex<String, MethodCustomization> methodCustomizationIndex;
+
 		@Override
 		public boolean isInitial() {
 			TypeCustomization defaultTypeCustomization = new TypeCustomization();
@@ -2368,6 +2538,7 @@ public class InfoCustomizations implements Serializable {
 
 		public void setTypeName(String typeName) {
 			this.typeName = typeName;
+			invalidateContainingIndex();
 		}
 
 		public boolean isAbstractForced() {
@@ -2444,6 +2615,41 @@ public class InfoCustomizations implements Serializable {
 			this.methodsCustomizations = methodsCustomizations;
 		}
 
+		protected synchronized void invalidateMemberCustomizationIndexes() {
+			if (fieldCustomizationIndex != null) {
+				fieldCustomizationIndex.invalidate();
+			}
+			if (methodCustomizationIndex != null) {
+				methodCustomizationIndex.invalidate();
+			}
+		}
+
+		protected synchronized CustomizationIndex<String, FieldCustomization> getFieldCustomizationIndex() {
+			if (fieldCustomizationIndex == null) {
+				fieldCustomizationIndex = new CustomizationIndex<String, FieldCustomization>(
+						new Mapper<FieldCustomization, String>() {
+							@Override
+							public String get(FieldCustomization f) {
+								return f.getFieldName();
+							}
+						});
+			}
+			return fieldCustomizationIndex;
+		}
+
+		protected synchronized CustomizationIndex<String, MethodCustomization> getMethodCustomizationIndex() {
+			if (methodCustomizationIndex == null) {
+				methodCustomizationIndex = new CustomizationIndex<String, MethodCustomization>(
+						new Mapper<MethodCustomization, String>() {
+							@Override
+							public String get(MethodCustomization m) {
+								return m.getMethodSignature();
+							}
+						});
+			}
+			return methodCustomizationIndex;
+		}
+
 		public String getOnlineHelp() {
 			return onlineHelp;
 		}
@@ -3618,6 +3824,7 @@ public class InfoCustomizations implements Serializable {
 
 		public void setFieldName(String fieldName) {
 			this.fieldName = fieldName;
+			invalidateContainingIndex();
 		}
 
 		public boolean isNullValueDistinctForced() {
@@ -4027,6 +4234,7 @@ public class InfoCustomizations implements Serializable {
 
 		public void setMethodSignature(String methodSignature) {
 			this.methodSignature = methodSignature;
+			invalidateContainingIndex();
 		}
 
 		public String getCustomMethodCaption() {
@@ -4566,6 +4774,7 @@ public class InfoCustomizations implements Serializable {
 
 		public void setEnumerationTypeName(String enumerationTypeName) {
 			this.enumerationTypeName = enumerationTypeName;
+			invalidateContainingIndex();
 		}
 
 		public List<EnumerationItemCustomization> getItemCustomizations() {
@@ -4854,6 +5063,7 @@ public class InfoCustomizations implements Serializable {
 
 		public void setListTypeName(String listTypeName) {
 			this.listTypeName = listTypeName;
+			invalidateContainingIndex();
 		}
 
 		public String getItemTypeName() {
@@ -4862,6 +5072,7 @@ public class InfoCustomizations implements Serializable {
 
 		public void setItemTypeName(String itemTypeName) {
 			this.itemTypeName = itemTypeName;
+			invalidateContainingIndex();
 		}
 
 		public List<ColumnCustomization> getColumnCustomizations() {
@@ -5256,6 +5467,7 @@ public class InfoCustomizations implements Serializable {
 			boolean migrated = false;
 			if (tc.getTypeName().contains("NonNullableInstance")) {
 				tc.setTypeName(tc.getTypeName().replace("NonNullableInstance", "MutableInstance"));
+				notifyChange();
 				migrated = true;
 			}
 			for (FieldCustomization fc : tc.getFieldsCustomizations()) {
@@ -5325,6 +5537,7 @@ public class InfoCustomizations implements Serializable {
 					String oldFieldName = siblingFc.getFieldName();
 					siblingFc.setFieldName(ParameterAsFieldInfo.buildParameterFieldName(mc.getMethodSignature(),
 							pc.getParameterName()));
+					notifyChange();
 					if (containingTc.getCustomFieldsOrder() != null) {
 						MiscUtils.replaceItem(containingTc.getCustomFieldsOrder(), oldFieldName,
 								siblingFc.getFieldName());
@@ -5391,6 +5604,7 @@ public class InfoCustomizations implements Serializable {
 					String oldFieldName = siblingFc.getFieldName();
 					siblingFc.setFieldName(
 							MethodReturnValueFieldInfo.buildMethodReturnValueFieldName(mc.getMethodSignature()));
+					notifyChange();
 					if (containingTc.getCustomFieldsOrder() != null) {
 						MiscUtils.replaceItem(containingTc.getCustomFieldsOrder(), oldFieldName,
 								siblingFc.getFieldName());
@@ -67,6 +67,12 @@ public class CapsuleFieldInfo extends AbstractInfo implements IFieldInfo {
 	public void onControlVisibilityChange(Object object, boolean visible) {
 	}
 
+
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return null;
+	}
+
 	public static String buildTypeName(String fieldName, String containingTypeName) {
 		return MessageFormat.format(
 				"CapsuleFieldType [context=EncapsulationContext [containingType={0}], fieldName={1}]",
@@ -726,6 +732,12 @@ public class CapsuleFieldInfo extends AbstractInfo implements IFieldInfo {
 			super.onControlVisibilityChange(object, visible);
 		}
 
+		@Override
+		public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+			object = ((Value) object).getObject();
+			return super.subscribeToValueChanges(object, listener);
+		}
+
 		@Override
 		public Map<String, Object> getSpecificProperties() {
 			Map<String, Object> result = new HashMap<String, Object>(super.getSpecificProperties());
@@ -143,6 +143,11 @@ public abstract class DelegatingFieldInfo implements IFieldInfo {
 		getDelegate().onControlVisibilityChange(object, visible);
 	}
 
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return null;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -44,6 +44,10 @@ public class FieldInfoProxy extends AbstractInfoProxy implements IFieldInfo {
 		base.onControlVisibilityChange(object, visible);
 	}
 
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return base.subscribeToValueChanges(object, listener);
+	}
+
 	public double getDisplayAreaHorizontalWeight() {
 		return base.getDisplayAreaHorizontalWeight();
 	}
@@ -1,9 +1,11 @@
 
 package xy.reflect.ui.info.field;
 
-import java.lang.reflect.Field;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +27,7 @@ import xy.reflect.ui.info.type.source.TypeInfoSourceProxy;
 import xy.reflect.ui.util.MiscUtils;
 import xy.reflect.ui.util.ReflectionUIError;
 import xy.reflect.ui.util.ReflectionUIUtils;
-import xy.reflect.ui.util.ClassUtils;
+import xy.reflect.ui.util.ClassMembersIndex;
 
 /**
  * Field generated from a '(get|is|has)Something()' Java method. If the
@@ -47,6 +49,7 @@ public class GetterFieldInfo extends AbstractInfo implements IFieldInfo {
 	protected Method javaGetterMethod;
 	protected Class<?> containingJavaClass;
 	protected ITypeInfo type;
+	protected IMethodInfo getterMethodInfo;
 	protected IMethodInfo setterMethodInfo;
 	protected int duplicateNameIndex = -1;
 	protected String name;
@@ -75,14 +78,12 @@ public class GetterFieldInfo extends AbstractInfo implements IFieldInfo {
 		String fieldName = getterToFieldName(javaGetterMethod.getName());
 		String setterMethodName = "set" + MiscUtils.changeCase(fieldName, true, 0, 1);
 		try {
-			for (Method otherMethod : containingJavaClass.getMethods()) {
-				if (otherMethod.getName().equals(setterMethodName)) {
-					if (otherMethod.getParameterTypes().length == 1) {
-						if (otherMethod.getParameterTypes()[0].equals(javaGetterMethod.getReturnType())) {
-							if (Modifier.isStatic(otherMethod.getModifiers()) == Modifier
-									.isStatic(javaGetterMethod.getModifiers())) {
-								return otherMethod;
-							}
+			for (Method otherMethod : ClassMembersIndex.get(containingJavaClass).getMethodsByName(setterMethodName)) {
+				if (otherMethod.getParameterTypes().length == 1) {
+					if (otherMethod.getParameterTypes()[0].equals(javaGetterMethod.getReturnType())) {
+						if (Modifier.isStatic(otherMethod.getModifiers()) == Modifier
+								.isStatic(javaGetterMethod.getModifiers())) {
+							return otherMethod;
 						}
 					}
 				}
@@ -104,20 +105,14 @@ public class GetterFieldInfo extends AbstractInfo implements IFieldInfo {
 		if (fieldName == null) {
 			return false;
 		}
-		for (Field siblingField : containingJavaClass.getFields()) {
-			if (PublicFieldInfo.isCompatibleWith(siblingField)) {
-				if (siblingField.getName().equals(fieldName)) {
-					return false;
-				}
-			}
-		}
 		if (javaMethod.getParameterTypes().length > 0) {
 			return false;
 		}
-		for (Method commonMethod : Object.class.getMethods()) {
-			if (ClassUtils.isOverridenBy(commonMethod, javaMethod)) {
-				return false;
-			}
+		if (ClassMembersIndex.get(containingJavaClass).hasCompatiblePublicField(fieldName)) {
+			return false;
+		}
+		if (ClassMembersIndex.overridesObjectMethod(javaMethod)) {
+			return false;
 		}
 		return true;
 	}
@@ -131,7 +126,10 @@ public class GetterFieldInfo extends AbstractInfo implements IFieldInfo {
 	}
 
 	public IMethodInfo getGetterMethodInfo() {
-		return new DefaultMethodInfo(reflectionUI, javaGetterMethod);
+		if (getterMethodInfo == null) {
+			getterMethodInfo = new DefaultMethodInfo(reflectionUI, javaGetterMethod);
+		}
+		return getterMethodInfo;
 	}
 
 	protected IMethodInfo getSetterMethodInfo() {
@@ -163,13 +161,12 @@ public class GetterFieldInfo extends AbstractInfo implements IFieldInfo {
 
 	protected int getDuplicateSignatureIndex(Method javaMethod) {
 		if (duplicateNameIndex == -1) {
-			for (Method otherMethod : javaMethod.getDeclaringClass().getMethods()) {
-				if (ReflectionUIUtils.buildMethodSignature(otherMethod)
-						.equals(ReflectionUIUtils.buildMethodSignature(javaMethod))) {
-					if (!otherMethod.equals(javaMethod)) {
-						// other method with same signature forcibly declared in base class
-						duplicateNameIndex = getDuplicateSignatureIndex(otherMethod) + 1;
-					}
+			ClassMembersIndex declaringClassIndex = ClassMembersIndex.get(javaMethod.getDeclaringClass());
+			for (Method otherMethod : declaringClassIndex
+					.getMethodsBySignature(declaringClassIndex.getSignature(javaMethod))) {
+				if (!otherMethod.equals(javaMethod)) {
+					// other method with same signature forcibly declared in base class
+					duplicateNameIndex = getDuplicateSignatureIndex(otherMethod) + 1;
 				}
 			}
 			if (duplicateNameIndex == -1) {
@@ -330,6 +327,81 @@ public class GetterFieldInfo extends AbstractInfo implements IFieldInfo {
 	public void onControlVisibilityChange(Object object, boolean visible) {
 	}
 
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return subscribeToPropertyChanges(object, getterToFieldName(javaGetterMethod.getName()), listener);
+	}
+
+	/**
+	 * Registers a {@link PropertyChangeListener} on the given object if its class
+	 * provides the JavaBeans 'addPropertyChangeListener(...)' and
+	 * 'removePropertyChangeListener(...)' methods. The property-specific variants
+	 * are preferred.
+	 * 
+	 * @param object       The object or null.
+	 * @param propertyName The name of the property to observe.
+	 * @param listener     A job executed each time a change of the property is
+	 *                     notified.
+	 * @return a job that unregisters the listener or null if the given object
+	 *         does not support property change listeners.
+	 */
+	public static Runnable subscribeToPropertyChanges(final Object object, final String propertyName,
+			final Runnable listener) {
+		if ((object == null) || (propertyName == null)) {
+			return null;
+		}
+		ClassMembersIndex classMembersIndex = ClassMembersIndex.get(object.getClass());
+		for (boolean propertySpecific : new boolean[] { true, false }) {
+			Class<?>[] parameterTypes = propertySpecific
+					? new Class<?>[] { String.class, PropertyChangeListener.class }
+					: new Class<?>[] { PropertyChangeListener.class };
+			final Method addMethod = findInstanceMethod(classMembersIndex, "addPropertyChangeListener",
+					parameterTypes);
+			final Method removeMethod = findInstanceMethod(classMembersIndex, "removePropertyChangeListener",
+					parameterTypes);
+			if ((addMethod == null) || (removeMethod == null)) {
+				continue;
+			}
+			PropertyChangeListener propertyChangeListener = new PropertyChangeListener() {
+				@Override
+				public void propertyChange(PropertyChangeEvent evt) {
+					if ((evt.getPropertyName() == null) || propertyName.equals(evt.getPropertyName())) {
+						listener.run();
+					}
+				}
+			};
+			final Object[] arguments = propertySpecific ? new Object[] { propertyName, propertyChangeListener }
+					: new Object[] { propertyChangeListener };
+			try {
+				addMethod.invoke(object, arguments);
+			} catch (Exception e) {
+				throw new ReflectionUIError(e);
+			}
+			return new Runnable() {
+				@Override
+				public void run() {
+					try {
+						removeMethod.invoke(object, arguments);
+					} catch (Exception e) {
+						throw new ReflectionUIError(e);
+					}
+				}
+			};
+		}
+		return null;
+	}
+
+	protected static Method findInstanceMethod(ClassMembersIndex classMembersIndex, String methodName,
+			Class<?>[] parameterTypes) {
+		for (Method method : classMembersIndex.getMethodsByName(methodName)) {
+			if (!Modifier.isStatic(method.getModifiers())
+					&& Arrays.equals(method.getParameterTypes(), parameterTypes)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public int hashCode() {
 		return javaGetterMethod.hashCode();
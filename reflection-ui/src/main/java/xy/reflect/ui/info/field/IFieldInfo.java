@@ -167,6 +167,11 @@ public interface IFieldInfo extends IInfo {
 			return -1;
 		}
 
+		@Override
+		public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+			return null;
+		}
+
 	};
 
 	/**
@@ -354,4 +359,20 @@ public interface IFieldInfo extends IInfo {
 	 */
 	void onControlVisibilityChange(Object object, boolean visible);
 
+	/**
+	 * Allows to be notified of the changes of this field value instead of
+	 * periodically checking it. Note that the subscription only replaces the
+	 * periodic checks (see {@link #getAutoUpdatePeriodMilliseconds()}): the
+	 * field value may still be retrieved again after each modification of the
+	 * object.
+	 * 
+	 * @param object   The object hosting the field value or null if the field is
+	 *                 static.
+	 * @param listener A job that will be executed (possibly outside of the UI
+	 *                 thread) each time the field value changes.
+	 * @return a job that cancels the subscription or null if the changes of this
+	 *         field value cannot be notified.
+	 */
+	Runnable subscribeToValueChanges(Object object, Runnable listener);
+
 }
@@ -127,6 +127,12 @@ public class ImplicitListFieldInfo extends AbstractInfo implements IFieldInfo {
 	public void onControlVisibilityChange(Object object, boolean visible) {
 	}
 
+
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return null;
+	}
+
 	@Override
 	public String getOnlineHelp() {
 		return null;
@@ -102,6 +102,15 @@ public class ImportedNullStatusFieldInfo extends FieldInfoProxy {
 		}
 	}
 
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		/*
+		 * The value also depends on the null status field: the notifications of the
+		 * base field alone are not sufficient.
+		 */
+		return null;
+	}
+
 	@Override
 	public void setValue(Object object, Object value) {
 		if (value == null) {
@@ -86,6 +86,12 @@ public class MethodReturnValueFieldInfo extends AbstractInfo implements IFieldIn
 	public void onControlVisibilityChange(Object object, boolean visible) {
 	}
 
+
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return null;
+	}
+
 	@Override
 	public String getCaption() {
 		return ReflectionUIUtils.composeMessage(method.getCaption(), " Result");
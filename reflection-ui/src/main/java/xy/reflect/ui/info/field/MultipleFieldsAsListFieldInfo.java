@@ -186,6 +186,12 @@ public class MultipleFieldsAsListFieldInfo extends AbstractInfo implements IFiel
 	public void onControlVisibilityChange(Object object, boolean visible) {
 	}
 
+
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return null;
+	}
+
 	@Override
 	public String getOnlineHelp() {
 		return null;
@@ -702,6 +708,13 @@ public class MultipleFieldsAsListFieldInfo extends AbstractInfo implements IFiel
 			super.onControlVisibilityChange(object, visible);
 		}
 
+		@Override
+		public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+			ValueListItem valueListItem = (ValueListItem) object;
+			object = valueListItem.getObject();
+			return super.subscribeToValueChanges(object, listener);
+		}
+
 		@Override
 		public boolean isHidden() {
 			return false;
@@ -16,7 +16,7 @@ import xy.reflect.ui.info.method.IMethodInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
 import xy.reflect.ui.info.type.source.SpecificitiesIdentifier;
-import xy.reflect.ui.util.ReflectionUIError;
+import xy.reflect.ui.util.JavaMemberInvoker;
 import xy.reflect.ui.util.ReflectionUIUtils;
 
 /**
@@ -38,6 +38,8 @@ public class PublicFieldInfo extends AbstractInfo implements IFieldInfo {
 	protected int duplicateNameIndex = -1;
 	protected String name;
 	protected String caption;
+	protected JavaMemberInvoker getter;
+	protected JavaMemberInvoker setter;
 
 	public PublicFieldInfo(ReflectionUI reflectionUI, Field field, Class<?> containingJavaClass) {
 		this.reflectionUI = reflectionUI;
@@ -116,15 +118,17 @@ public class PublicFieldInfo extends AbstractInfo implements IFieldInfo {
 	public void onControlVisibilityChange(Object object, boolean visible) {
 	}
 
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return GetterFieldInfo.subscribeToPropertyChanges(object, javaField.getName(), listener);
+	}
+
 	@Override
 	public void setValue(Object object, Object value) {
-		try {
-			javaField.set(object, value);
-		} catch (IllegalArgumentException e) {
-			throw new ReflectionUIError(e);
-		} catch (IllegalAccessException e) {
-			throw new ReflectionUIError(e);
+		if (setter == null) {
+			setter = JavaMemberInvoker.forFieldSetter(javaField);
 		}
+		setter.invoke(object, new Object[] { value });
 	}
 
 	@Override
@@ -134,13 +138,10 @@ public class PublicFieldInfo extends AbstractInfo implements IFieldInfo {
 
 	@Override
 	public Object getValue(Object object) {
-		try {
-			return javaField.get(object);
-		} catch (IllegalArgumentException e) {
-			throw new ReflectionUIError(e);
-		} catch (IllegalAccessException e) {
-			throw new ReflectionUIError(e);
+		if (getter == null) {
+			getter = JavaMemberInvoker.forFieldGetter(javaField);
 		}
+		return getter.invoke(object, JavaMemberInvoker.NO_ARGUMENTS);
 	}
 
 	@Override
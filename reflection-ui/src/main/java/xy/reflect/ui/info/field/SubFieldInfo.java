@@ -75,6 +75,11 @@ public class SubFieldInfo extends AbstractInfo implements IFieldInfo {
 		theSubField.onControlVisibilityChange(fieldValue, visible);
 	}
 
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return null;
+	}
+
 	@Override
 	public ITypeInfo getType() {
 		if (type == null) {
@@ -3,7 +3,10 @@
 
 package xy.reflect.ui.info.menu;
 
+import java.util.HashMap;
+
 import xy.reflect.ui.info.ResourcePath;
+import xy.reflect.ui.util.ReflectionUIError;
 
 /**
  * Base class of action menu item specifications.
@@ -11,7 +14,7 @@ import xy.reflect.ui.info.ResourcePath;
  * @author olitank
  *
  */
-public abstract class AbstractActionMenuItemInfo extends AbstractMenuItemInfo {
+public abstract class AbstractActionMenuItemInfo extends AbstractMenuItemInfo implements Cloneable {
 
 	protected ResourcePath iconImagePath;
 
@@ -32,6 +35,22 @@ public abstract class AbstractActionMenuItemInfo extends AbstractMenuItemInfo {
 		this.iconImagePath = iconImagePath;
 	}
 
+	/**
+	 * @return a shallow copy of this menu item that has its own specific
+	 *         properties. It allows to contextualize a menu item that may be
+	 *         shared (e.g.: through a cached menu model).
+	 */
+	public AbstractActionMenuItemInfo copy() {
+		AbstractActionMenuItemInfo result;
+		try {
+			result = (AbstractActionMenuItemInfo) clone();
+		} catch (CloneNotSupportedException e) {
+			throw new ReflectionUIError(e);
+		}
+		result.setSpecificProperties(new HashMap<String, Object>(getSpecificProperties()));
+		return result;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -2,7 +2,6 @@
 package xy.reflect.ui.info.method;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,8 +11,8 @@ import xy.reflect.ui.info.parameter.DefaultParameterInfo;
 import xy.reflect.ui.info.parameter.IParameterInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
+import xy.reflect.ui.util.JavaMemberInvoker;
 import xy.reflect.ui.util.Parameter;
-import xy.reflect.ui.util.ReflectionUIError;
 
 /**
  * Constructor information extracted from the given Java constructor.
@@ -27,6 +26,7 @@ public class DefaultConstructorInfo extends AbstractConstructorInfo {
 	protected ReflectionUI reflectionUI;
 	protected ArrayList<IParameterInfo> parameters;
 	protected ITypeInfo returnValueType;
+	protected JavaMemberInvoker invoker;
 
 	public DefaultConstructorInfo(ReflectionUI reflectionUI, Constructor<?> javaConstructor) {
 		this.reflectionUI = reflectionUI;
@@ -82,17 +82,14 @@ public class DefaultConstructorInfo extends AbstractConstructorInfo {
 		for (IParameterInfo param : getParameters()) {
 			args[param.getPosition()] = invocationData.getParameterValue(param.getPosition());
 		}
-		try {
-			return javaConstructor.newInstance(args);
-		} catch (IllegalAccessException e) {
-			throw new ReflectionUIError(e);
-		} catch (IllegalArgumentException e) {
-			throw new ReflectionUIError(e);
-		} catch (InvocationTargetException e) {
-			throw new ReflectionUIError(e.getTargetException());
-		} catch (InstantiationException e) {
-			throw new ReflectionUIError(e);
+		return getInvoker().invoke(null, args);
+	}
+
+	protected JavaMemberInvoker getInvoker() {
+		if (invoker == null) {
+			invoker = JavaMemberInvoker.forConstructor(javaConstructor);
 		}
+		return invoker;
 	}
 
 	@Override
@@ -1,7 +1,6 @@
 
 package xy.reflect.ui.info.method;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,8 +17,9 @@ import xy.reflect.ui.info.parameter.DefaultParameterInfo;
 import xy.reflect.ui.info.parameter.IParameterInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
+import xy.reflect.ui.util.ClassMembersIndex;
+import xy.reflect.ui.util.JavaMemberInvoker;
 import xy.reflect.ui.util.Parameter;
-import xy.reflect.ui.util.ReflectionUIError;
 import xy.reflect.ui.util.ReflectionUIUtils;
 import xy.reflect.ui.util.ClassUtils;
 
@@ -43,6 +43,7 @@ public class DefaultMethodInfo extends AbstractInfo implements IMethodInfo {
 	protected int duplicateNameIndex = -1;
 	protected String name;
 	protected String caption;
+	protected JavaMemberInvoker invoker;
 
 	public DefaultMethodInfo(ReflectionUI reflectionUI, Method javaMethod) {
 		this.reflectionUI = reflectionUI;
@@ -73,13 +74,12 @@ public class DefaultMethodInfo extends AbstractInfo implements IMethodInfo {
 	protected int getDuplicateSignatureIndex(Method javaMethod) {
 		if (duplicateNameIndex == -1) {
 			duplicateNameIndex = 0;
-			for (Method otherMethod : javaMethod.getDeclaringClass().getMethods()) {
-				if (ReflectionUIUtils.buildMethodSignature(otherMethod)
-						.equals(ReflectionUIUtils.buildMethodSignature(javaMethod))) {
-					if (!otherMethod.equals(javaMethod)) {
-						// other method with same signature forcibly declared in base class
-						duplicateNameIndex += 1;
-					}
+			ClassMembersIndex declaringClassIndex = ClassMembersIndex.get(javaMethod.getDeclaringClass());
+			for (Method otherMethod : declaringClassIndex
+					.getMethodsBySignature(declaringClassIndex.getSignature(javaMethod))) {
+				if (!otherMethod.equals(javaMethod)) {
+					// other method with same signature forcibly declared in base class
+					duplicateNameIndex += 1;
 				}
 			}
 		}
@@ -184,15 +184,14 @@ public class DefaultMethodInfo extends AbstractInfo implements IMethodInfo {
 		for (IParameterInfo param : getParameters()) {
 			args[param.getPosition()] = invocationData.getParameterValue(param.getPosition());
 		}
-		try {
-			return javaMethod.invoke(object, args);
-		} catch (IllegalAccessException e) {
-			throw new ReflectionUIError(e);
-		} catch (IllegalArgumentException e) {
-			throw new ReflectionUIError(e);
-		} catch (InvocationTargetException e) {
-			throw new ReflectionUIError(e.getTargetException());
+		return getInvoker().invoke(object, args);
+	}
+
+	protected JavaMemberInvoker getInvoker() {
+		if (invoker == null) {
+			invoker = JavaMemberInvoker.forMethod(javaMethod);
 		}
+		return invoker;
 	}
 
 	@Override
@@ -232,19 +231,11 @@ public class DefaultMethodInfo extends AbstractInfo implements IMethodInfo {
 		if (GetterFieldInfo.isCompatibleWith(javaMethod, containingJavaClass)) {
 			return false;
 		}
-		for (Method otherJavaMethod : containingJavaClass.getMethods()) {
-			if (!otherJavaMethod.equals(javaMethod)) {
-				if (GetterFieldInfo.isCompatibleWith(otherJavaMethod, containingJavaClass)) {
-					if (javaMethod.equals(GetterFieldInfo.getValidSetterMethod(otherJavaMethod, containingJavaClass))) {
-						return false;
-					}
-				}
-			}
+		if (ClassMembersIndex.get(containingJavaClass).isGetterSetter(javaMethod)) {
+			return false;
 		}
-		for (Method commonMethod : Object.class.getMethods()) {
-			if (ClassUtils.isOverridenBy(commonMethod, javaMethod)) {
-				return false;
-			}
+		if (ClassMembersIndex.overridesObjectMethod(javaMethod)) {
+			return false;
 		}
 		return true;
 	}
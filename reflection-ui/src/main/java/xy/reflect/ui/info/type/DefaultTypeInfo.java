@@ -34,6 +34,7 @@ import xy.reflect.ui.info.parameter.IParameterInfo;
 import xy.reflect.ui.info.type.source.ITypeInfoSource;
 import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
 import xy.reflect.ui.info.type.source.PrecomputedTypeInfoSource;
+import xy.reflect.ui.util.ClassMembersIndex;
 import xy.reflect.ui.util.ClassUtils;
 import xy.reflect.ui.util.IOUtils;
 import xy.reflect.ui.util.ReflectionUIError;
@@ -50,9 +51,9 @@ public class DefaultTypeInfo extends AbstractInfo implements ITypeInfo {
 
 	protected JavaTypeInfoSource source;
 	protected ReflectionUI reflectionUI;
-	protected List<IFieldInfo> fields;
-	protected List<IMethodInfo> methods;
-	protected List<IMethodInfo> constructors;
+	protected volatile List<IFieldInfo> fields;
+	protected volatile List<IMethodInfo> methods;
+	protected volatile List<IMethodInfo> constructors;
 
 	public DefaultTypeInfo(JavaTypeInfoSource source) {
 		if (source == null) {
@@ -203,9 +204,9 @@ public class DefaultTypeInfo extends AbstractInfo implements ITypeInfo {
 	@Override
 	public List<IMethodInfo> getConstructors() {
 		if (constructors == null) {
-			constructors = new ArrayList<IMethodInfo>();
+			List<IMethodInfo> result = new ArrayList<IMethodInfo>();
 			if (ClassUtils.isPrimitiveClassOrWrapperOrString(getJavaType())) {
-				constructors.add(new AbstractConstructorInfo() {
+				result.add(new AbstractConstructorInfo() {
 
 					ITypeInfo returnValueType;
 
@@ -241,9 +242,10 @@ public class DefaultTypeInfo extends AbstractInfo implements ITypeInfo {
 					if (!DefaultConstructorInfo.isCompatibleWith(javaConstructor)) {
 						continue;
 					}
-					constructors.add(new DefaultConstructorInfo(reflectionUI, javaConstructor));
+					result.add(new DefaultConstructorInfo(reflectionUI, javaConstructor));
 				}
 			}
+			constructors = result;
 		}
 		return constructors;
 	}
@@ -267,21 +269,22 @@ public class DefaultTypeInfo extends AbstractInfo implements ITypeInfo {
 	@Override
 	public List<IFieldInfo> getFields() {
 		if (fields == null) {
-			fields = new ArrayList<IFieldInfo>();
+			List<IFieldInfo> result = new ArrayList<IFieldInfo>();
 			for (Field javaField : getJavaType().getFields()) {
 				if (!PublicFieldInfo.isCompatibleWith(javaField)) {
 					continue;
 				}
-				fields.add(new PublicFieldInfo(reflectionUI, javaField, getJavaType()));
+				result.add(new PublicFieldInfo(reflectionUI, javaField, getJavaType()));
 			}
-			for (Method javaMethod : getJavaType().getMethods()) {
+			for (Method javaMethod : ClassMembersIndex.get(getJavaType()).getMethods()) {
 				if (!GetterFieldInfo.isCompatibleWith(javaMethod, getJavaType())) {
 					continue;
 				}
 				GetterFieldInfo getterFieldInfo = new GetterFieldInfo(reflectionUI, javaMethod, getJavaType());
-				fields.add(getterFieldInfo);
+				result.add(getterFieldInfo);
 			}
-			ReflectionUIUtils.sortFields(fields);
+			ReflectionUIUtils.sortFields(result);
+			fields = result;
 		}
 		return fields;
 	}
@@ -289,14 +292,15 @@ public class DefaultTypeInfo extends AbstractInfo implements ITypeInfo {
 	@Override
 	public List<IMethodInfo> getMethods() {
 		if (methods == null) {
-			methods = new ArrayList<IMethodInfo>();
-			for (Method javaMethod : getJavaType().getMethods()) {
+			List<IMethodInfo> result = new ArrayList<IMethodInfo>();
+			for (Method javaMethod : ClassMembersIndex.get(getJavaType()).getMethods()) {
 				if (!DefaultMethodInfo.isCompatibleWith(javaMethod, getJavaType())) {
 					continue;
 				}
-				methods.add(new DefaultMethodInfo(reflectionUI, javaMethod));
+				result.add(new DefaultMethodInfo(reflectionUI, javaMethod));
 			}
-			ReflectionUIUtils.sortMethods(methods);
+			ReflectionUIUtils.sortMethods(result);
+			methods = result;
 		}
 		return methods;
 	}
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import xy.reflect.ui.info.type.ITypeInfo;
+import xy.reflect.ui.info.type.iterable.IListTypeInfo;
 import xy.reflect.ui.util.ReflectionUIUtils;
 
 /**
@@ -35,4 +36,9 @@ public class ControlPluginActivationFactory extends InfoProxyFactory {
 		return result;
 	}
 
+	@Override
+	protected boolean canEditItemsInPlace(IListTypeInfo type) {
+		return canBaseEditItemsInPlace(type);
+	}
+
 }
@@ -779,6 +779,11 @@ public class EncapsulatedObjectFactory {
 		public void onControlVisibilityChange(Object object, boolean visible) {
 		}
 
+		@Override
+		public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+			return null;
+		}
+
 		@Override
 		public boolean isHidden() {
 			return false;
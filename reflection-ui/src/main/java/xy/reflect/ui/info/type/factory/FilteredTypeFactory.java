@@ -10,6 +10,7 @@ import xy.reflect.ui.info.field.IFieldInfo;
 import xy.reflect.ui.info.filter.IInfoFilter;
 import xy.reflect.ui.info.method.IMethodInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
+import xy.reflect.ui.info.type.iterable.IListTypeInfo;
 
 /**
  * Factory that generates type information proxies that conform to the specified
@@ -26,6 +27,11 @@ public class FilteredTypeFactory extends InfoProxyFactory {
 		this.infoFilter = infoFilter;
 	}
 
+	@Override
+	protected boolean canEditItemsInPlace(IListTypeInfo type) {
+		return canBaseEditItemsInPlace(type);
+	}
+
 	@Override
 	protected List<IFieldInfo> getFields(ITypeInfo type) {
 		List<IFieldInfo> result = new ArrayList<IFieldInfo>();
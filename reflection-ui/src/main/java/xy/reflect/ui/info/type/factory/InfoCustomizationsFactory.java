@@ -56,7 +56,7 @@ import xy.reflect.ui.info.field.SubFieldInfo;
 import xy.reflect.ui.info.field.ValueAsListFieldInfo;
 import xy.reflect.ui.info.field.VirtualFieldInfo;
 import xy.reflect.ui.info.filter.IInfoFilter;
-import xy.reflect.ui.info.menu.IMenuElementInfo;
+import xy.reflect.ui.info.menu.AbstractActionMenuItemInfo;
 import xy.reflect.ui.info.menu.IMenuElementPosition;
 import xy.reflect.ui.info.menu.MenuModel;
 import xy.reflect.ui.info.menu.MethodActionMenuItemInfo;
@@ -95,6 +95,7 @@ import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
 import xy.reflect.ui.info.type.source.SpecificitiesIdentifier;
 import xy.reflect.ui.info.type.source.TypeInfoSourceProxy;
 import xy.reflect.ui.undo.ListModificationFactory;
+import xy.reflect.ui.util.CacheRegistry;
 import xy.reflect.ui.util.ClassUtils;
 import xy.reflect.ui.util.Filter;
 import xy.reflect.ui.util.Mapper;
@@ -117,6 +118,10 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 	protected static final String ORIGINAL_ITEM_TYPE = InfoCustomizations.class.getName() + ".originalItemType";
 
 	protected CustomizedUI customizedUI;
+	protected Map<String, Pair<Long, MembersCustomizationsFactory>> membersCache = CacheRegistry
+			.newStandardMap(InfoCustomizationsFactory.class.getName() + ".membersCache");
+	protected Map<List<String>, Pair<Long, CustomizedListStructuralInfo>> structuralInfoCache = CacheRegistry
+			.newStandardMap(InfoCustomizationsFactory.class.getName() + ".structuralInfoCache");
 
 	public abstract String getIdentifier();
 
@@ -173,6 +178,11 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 		return super.isFactoryTracedFor(base);
 	}
 
+	@Override
+	protected boolean isWrappingStable() {
+		return true;
+	}
+
 	@Override
 	public ITypeInfo wrapTypeInfo(ITypeInfo type) {
 		TypeCustomization t = InfoCustomizations.getTypeCustomization(this.getInfoCustomizations(), type.getName());
@@ -1032,6 +1042,25 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 		return super.canReplaceContent(listType);
 	}
 
+	@Override
+	protected boolean canEditItemsInPlace(IListTypeInfo listType) {
+		ITypeInfo itemType = listType.getItemType();
+		ListCustomization l = InfoCustomizations.getListCustomization(this.getInfoCustomizations(), listType.getName(),
+				(itemType == null) ? null : itemType.getName());
+		if (l != null) {
+			if (l.getEditOptions() == null) {
+				return false;
+			}
+			if (l.getEditOptions().getListInstanciationOption() != null) {
+				return false;
+			}
+			if (l.isListSorted()) {
+				return false;
+			}
+		}
+		return canBaseEditItemsInPlace(listType);
+	}
+
 	@Override
 	protected boolean isInsertionAllowed(IListTypeInfo listType) {
 		ITypeInfo itemType = listType.getItemType();
@@ -1120,12 +1149,38 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 		ListCustomization l = InfoCustomizations.getListCustomization(this.getInfoCustomizations(), listType.getName(),
 				(itemType == null) ? null : itemType.getName());
 		if (l != null) {
-			IListStructuralInfo base = super.getStructuralInfo(listType);
-			return new CustomizedListStructuralInfo(customizedUI, base, listType, l);
+			return getCustomizedStructuralInfo(listType, l);
 		}
 		return super.getStructuralInfo(listType);
 	}
 
+	/**
+	 * @param listType          The list type information.
+	 * @param listCustomization The customization of the given list type.
+	 * @return the customized structural information of the given list type. The
+	 *         result is cached and reused as long as the revision number of the
+	 *         {@link CustomizedUI#getInfoCustomizations()} return value does not
+	 *         change (the columns depend on the list customization but also on the
+	 *         item type customization).
+	 */
+	protected CustomizedListStructuralInfo getCustomizedStructuralInfo(IListTypeInfo listType,
+			ListCustomization listCustomization) {
+		long revision = customizedUI.getInfoCustomizations().getRevision();
+		ITypeInfo itemType = listType.getItemType();
+		List<String> key = Arrays.asList(listType.getName(), (itemType == null) ? null : itemType.getName());
+		Pair<Long, CustomizedListStructuralInfo> cached = structuralInfoCache.get(key);
+		if ((cached != null) && (cached.getFirst() == revision)
+				&& (cached.getSecond().getListCustomization() == listCustomization)
+				&& cached.getSecond().getListType().equals(listType)) {
+			return cached.getSecond();
+		}
+		IListStructuralInfo base = super.getStructuralInfo(listType);
+		CustomizedListStructuralInfo result = new CustomizedListStructuralInfo(customizedUI, base, listType,
+				listCustomization);
+		structuralInfoCache.put(key, new Pair<Long, CustomizedListStructuralInfo>(revision, result));
+		return result;
+	}
+
 	@Override
 	protected ITypeInfo getItemType(IListTypeInfo listType) {
 		ITypeInfo itemType = listType.getItemType();
@@ -1753,8 +1808,22 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 		return super.getOnlineHelp(type);
 	}
 
+	/**
+	 * @param type The type information.
+	 * @return the customized members of the given type. The result is cached and
+	 *         reused as long as the revision number of the
+	 *         {@link CustomizedUI#getInfoCustomizations()} return value does not
+	 *         change.
+	 */
 	protected MembersCustomizationsFactory getMembers(ITypeInfo type) {
-		return new MembersCustomizationsFactory(type);
+		long revision = customizedUI.getInfoCustomizations().getRevision();
+		Pair<Long, MembersCustomizationsFactory> cached = membersCache.get(type.getName());
+		if ((cached != null) && (cached.getFirst() == revision) && (cached.getSecond().getContainingType() == type)) {
+			return cached.getSecond();
+		}
+		MembersCustomizationsFactory result = new MembersCustomizationsFactory(type);
+		membersCache.put(type.getName(), new Pair<Long, MembersCustomizationsFactory>(revision, result));
+		return result;
 	}
 
 	/**
@@ -1780,9 +1849,10 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 		protected List<IFieldInfo> outputFields = new ArrayList<IFieldInfo>();
 		protected List<IMethodInfo> outputMethods = new ArrayList<IMethodInfo>();
 		protected List<IMethodInfo> outputConstructors = new ArrayList<IMethodInfo>();
-		protected MenuModel menuModel = new MenuModel();
+		protected List<Pair<IMenuElementPosition, IMethodInfo>> menuItemMethods = new ArrayList<Pair<IMenuElementPosition, IMethodInfo>>();
 		protected ITypeInfo containingType;
 		protected TypeCustomization containingTypeCustomization;
+		protected MenuModel menuModel;
 
 		protected Map<Pair<MethodCustomization, ParameterCustomization>, ParameterAsFieldInfo> methodParameterAsFields = new HashMap<Pair<MethodCustomization, ParameterCustomization>, ParameterAsFieldInfo>();
 
@@ -1791,16 +1861,16 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 			this.containingTypeCustomization = InfoCustomizations.getTypeCustomization(getInfoCustomizations(),
 					containingType.getName());
 			if (containingTypeCustomization != null) {
-				inheritMembers(inputFields, inputMethods, inputConstructors, menuModel);
-				addDeclaredMembers(inputFields, inputMethods, inputConstructors, menuModel);
+				inheritMembers(inputFields, inputMethods, inputConstructors);
+				addDeclaredMembers(inputFields, inputMethods, inputConstructors);
 				evolveMembers();
 			} else {
-				inheritMembers(outputFields, outputMethods, outputConstructors, menuModel);
+				inheritMembers(outputFields, outputMethods, outputConstructors);
 			}
 		}
 
 		protected void addDeclaredMembers(List<IFieldInfo> inputFields, List<IMethodInfo> inputMethods,
-				List<IMethodInfo> inputConstructors, MenuModel menuModel) {
+				List<IMethodInfo> inputConstructors) {
 			if (containingTypeCustomization.isAnyDefaultObjectMemberIncluded()) {
 				addDefaultObjectMembers(inputFields, inputMethods, inputConstructors);
 			}
@@ -1813,8 +1883,6 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 				newField = customizedUI.getInfoCustomizationsSetupFactory().wrapFieldInfo(newField, containingType);
 				inputFields.add(newField);
 			}
-			menuModel.importContributions(
-					ReflectionUIUtils.createMenuModel(containingTypeCustomization.getMenuModelCustomization()));
 		}
 
 		protected IFieldInfo createVirtualField(VirtualFieldDeclaration virtualFieldDeclaration) {
@@ -1829,11 +1897,10 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 		}
 
 		protected void inheritMembers(List<IFieldInfo> fields, List<IMethodInfo> methods,
-				List<IMethodInfo> constructors, MenuModel menuModel) {
+				List<IMethodInfo> constructors) {
 			fields.addAll(InfoCustomizationsFactory.super.getFields(containingType));
 			methods.addAll(InfoCustomizationsFactory.super.getMethods(containingType));
 			constructors.addAll(InfoCustomizationsFactory.super.getConstructors(containingType));
-			menuModel.importContributions(InfoCustomizationsFactory.super.getMenuModel(containingType));
 		}
 
 		protected void addDefaultObjectMembers(List<IFieldInfo> fields, List<IMethodInfo> methods,
@@ -2200,10 +2267,37 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 			return outputConstructors;
 		}
 
-		public MenuModel getMenuModel() {
+		public ITypeInfo getContainingType() {
+			return containingType;
+		}
+
+		/**
+		 * @return the menu model built (once) from the inherited one, the menu model
+		 *         customization and the methods located in menus. It is shared and
+		 *         then must not be altered (its action items must be copied before
+		 *         being contextualized, see {@link AbstractActionMenuItemInfo#copy()}).
+		 */
+		public synchronized MenuModel getMenuModel() {
+			if (menuModel == null) {
+				menuModel = createMenuModel();
+			}
 			return menuModel;
 		}
 
+		protected MenuModel createMenuModel() {
+			MenuModel result = new MenuModel();
+			result.importContributions(InfoCustomizationsFactory.super.getMenuModel(containingType));
+			if (containingTypeCustomization != null) {
+				result.importContributions(
+						ReflectionUIUtils.createMenuModel(containingTypeCustomization.getMenuModelCustomization()));
+				for (Pair<IMenuElementPosition, IMethodInfo> menuItemMethod : menuItemMethods) {
+					result.importContribution(menuItemMethod.getFirst(),
+							new MethodActionMenuItemInfo(customizedUI, menuItemMethod.getSecond()));
+				}
+			}
+			return result;
+		}
+
 		protected class MethodParameterPropertiesTransformer extends AbstractMethodTransformer {
 
 			@Override
@@ -2490,9 +2584,8 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 					IMenuElementPosition menuItemContainerPosition = ReflectionUIUtils.getMenuElementPosition(
 							containingTypeCustomization.getMenuModelCustomization(), mc.getMenuLocation());
 					if (menuItemContainerPosition != null) {
-						IMenuElementInfo actionMenuItem = new MethodActionMenuItemInfo(customizedUI,
-								wrapMethodInfo(method, containingType));
-						menuModel.importContribution(menuItemContainerPosition, actionMenuItem);
+						menuItemMethods.add(new Pair<IMenuElementPosition, IMethodInfo>(menuItemContainerPosition,
+								wrapMethodInfo(method, containingType)));
 					}
 				}
 				return method;
@@ -3160,6 +3253,11 @@ public abstract class InfoCustomizationsFactory extends InfoProxyFactory {
 			return type.getName();
 		}
 
+		@Override
+		protected boolean canEditItemsInPlace(IListTypeInfo type) {
+			return canBaseEditItemsInPlace(type);
+		}
+
 	}
 
 }
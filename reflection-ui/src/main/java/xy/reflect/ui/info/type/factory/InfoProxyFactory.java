@@ -8,6 +8,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +30,7 @@ import xy.reflect.ui.info.type.ITypeInfo.FieldsLayout;
 import xy.reflect.ui.info.type.ITypeInfo.MethodsLayout;
 import xy.reflect.ui.info.type.enumeration.IEnumerationItemInfo;
 import xy.reflect.ui.info.type.enumeration.IEnumerationTypeInfo;
+import xy.reflect.ui.info.type.iterable.IInPlaceEditableListTypeInfo;
 import xy.reflect.ui.info.type.iterable.IListTypeInfo;
 import xy.reflect.ui.info.type.iterable.IListTypeInfo.InitialItemValueCreationOption;
 import xy.reflect.ui.info.type.iterable.item.IListItemDetailsAccessMode;
@@ -469,6 +471,11 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 		field.onControlVisibilityChange(object, visible);
 	}
 
+	protected Runnable subscribeToValueChanges(Object object, Runnable listener, IFieldInfo field,
+			ITypeInfo containingType) {
+		return field.subscribeToValueChanges(object, listener);
+	}
+
 	protected String getSignature(IMethodInfo method, ITypeInfo containingType) {
 		return method.getSignature();
 	}
@@ -497,6 +504,43 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 		return type.canReplaceContent();
 	}
 
+	/**
+	 * @param type The list type.
+	 * @return false by default since the in-place item edition would bypass the
+	 *         customizations of the list content (see
+	 *         {@link #toArray(IListTypeInfo, Object)},
+	 *         {@link #replaceContent(IListTypeInfo, Object, Object[])}, ...) that
+	 *         sub-classes may perform. Factories that preserve the list items and
+	 *         their order must opt in by returning
+	 *         {@link #canBaseEditItemsInPlace(IListTypeInfo)}.
+	 */
+	protected boolean canEditItemsInPlace(IListTypeInfo type) {
+		return false;
+	}
+
+	/**
+	 * @param type The list type.
+	 * @return whether the given (base) list type supports in-place item edition.
+	 */
+	protected boolean canBaseEditItemsInPlace(IListTypeInfo type) {
+		if (!(type instanceof IInPlaceEditableListTypeInfo)) {
+			return false;
+		}
+		return ((IInPlaceEditableListTypeInfo) type).canEditItemsInPlace();
+	}
+
+	protected void insertItem(IListTypeInfo type, Object listValue, int index, Object item) {
+		((IInPlaceEditableListTypeInfo) type).insertItem(listValue, index, item);
+	}
+
+	protected Object removeItem(IListTypeInfo type, Object listValue, int index) {
+		return ((IInPlaceEditableListTypeInfo) type).removeItem(listValue, index);
+	}
+
+	protected Object setItem(IListTypeInfo type, Object listValue, int index, Object item) {
+		return ((IInPlaceEditableListTypeInfo) type).setItem(listValue, index, item);
+	}
+
 	protected List<IDynamicListAction> getDynamicActions(IListTypeInfo type, List<? extends ItemPosition> selection,
 			Mapper<ItemPosition, ListModificationFactory> listModificationFactoryAccessor) {
 		return type.getDynamicActions(selection, listModificationFactoryAccessor);
@@ -875,10 +919,83 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 		return true;
 	}
 
+	/**
+	 * @return true if the wrapping performed by this factory is stable, meaning
+	 *         that {@link #wrapFieldInfo(IFieldInfo, ITypeInfo)},
+	 *         {@link #wrapMethodInfo(IMethodInfo, ITypeInfo)},
+	 *         {@link #wrapConstructorInfo(IMethodInfo, ITypeInfo)} and
+	 *         {@link #wrapSubTypeInfo(ITypeInfo)} results only depend on their
+	 *         arguments. The generated type proxies will then reuse the members
+	 *         proxies (and their lists) as long as the base members do not change.
+	 *         By default false is returned.
+	 */
+	protected boolean isWrappingStable() {
+		return false;
+	}
+
 	protected boolean isFactoryTracedFor(IApplicationInfo base) {
 		return true;
 	}
 
+	/**
+	 * Helper class used when {@link InfoProxyFactory#isWrappingStable()} returns
+	 * true. It wraps the elements of base lists and reuses the previous
+	 * (unmodifiable) result as long as the base list stays the same. The base list
+	 * is first compared by identity (base lists are assumed not to be modified once
+	 * returned, which allows to chain proxies at no cost) and then element by
+	 * element (identity comparison). The wrapper of each base element is also
+	 * reused when other elements change.
+	 * 
+	 * @author olitank
+	 *
+	 * @param <T> The type of the list elements.
+	 */
+	protected abstract class StableWrappingList<T> {
+
+		protected List<T> lastBaseList = Collections.emptyList();
+		protected Object[] lastBaseElements = new Object[0];
+		protected List<T> lastResult = Collections.emptyList();
+		protected Map<T, T> wrapperByBaseElement = Collections.emptyMap();
+
+		protected abstract T wrap(T baseElement);
+
+		public synchronized List<T> get(List<T> baseList) {
+			if (baseList == lastBaseList) {
+				return lastResult;
+			}
+			if (!hasSameElements(baseList, lastBaseElements)) {
+				Map<T, T> newWrapperByBaseElement = new IdentityHashMap<T, T>();
+				List<T> result = new ArrayList<T>(baseList.size());
+				for (T baseElement : baseList) {
+					T wrapper = wrapperByBaseElement.get(baseElement);
+					if (wrapper == null) {
+						wrapper = wrap(baseElement);
+					}
+					newWrapperByBaseElement.put(baseElement, wrapper);
+					result.add(wrapper);
+				}
+				lastBaseElements = baseList.toArray();
+				lastResult = Collections.unmodifiableList(result);
+				wrapperByBaseElement = newWrapperByBaseElement;
+			}
+			lastBaseList = baseList;
+			return lastResult;
+		}
+
+		protected boolean hasSameElements(List<T> list, Object[] elements) {
+			if (list.size() != elements.length) {
+				return false;
+			}
+			for (int i = 0; i < elements.length; i++) {
+				if (list.get(i) != elements[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
 	public class GeneratedApplicationInfoProxy extends AbstractInfoProxy implements IApplicationInfo {
 
 		protected InfoProxyFactory factory = InfoProxyFactory.this;
@@ -1088,6 +1205,10 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 
 		protected InfoProxyFactory factory = InfoProxyFactory.this;
 		protected ITypeInfo base;
+		protected StableWrappingList<IFieldInfo> stableFields;
+		protected StableWrappingList<IMethodInfo> stableMethods;
+		protected StableWrappingList<IMethodInfo> stableConstructors;
+		protected StableWrappingList<ITypeInfo> stablePolymorphicInstanceSubTypes;
 
 		public GeneratedBasicTypeInfoProxy(ITypeInfo type) {
 			this.base = type;
@@ -1098,6 +1219,59 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 			return factory;
 		}
 
+		/*
+		 * The stable wrapping lists are only created when isWrappingStable() returns
+		 * true:
+		 */
+
+		protected synchronized StableWrappingList<IFieldInfo> getStableFields() {
+			if (stableFields == null) {
+				stableFields = new StableWrappingList<IFieldInfo>() {
+					@Override
+					protected IFieldInfo wrap(IFieldInfo field) {
+						return wrapFieldInfo(field, base);
+					}
+				};
+			}
+			return stableFields;
+		}
+
+		protected synchronized StableWrappingList<IMethodInfo> getStableMethods() {
+			if (stableMethods == null) {
+				stableMethods = new StableWrappingList<IMethodInfo>() {
+					@Override
+					protected IMethodInfo wrap(IMethodInfo method) {
+						return wrapMethodInfo(method, base);
+					}
+				};
+			}
+			return stableMethods;
+		}
+
+		protected synchronized StableWrappingList<IMethodInfo> getStableConstructors() {
+			if (stableConstructors == null) {
+				stableConstructors = new StableWrappingList<IMethodInfo>() {
+					@Override
+					protected IMethodInfo wrap(IMethodInfo constructor) {
+						return wrapConstructorInfo(constructor, base);
+					}
+				};
+			}
+			return stableConstructors;
+		}
+
+		protected synchronized StableWrappingList<ITypeInfo> getStablePolymorphicInstanceSubTypes() {
+			if (stablePolymorphicInstanceSubTypes == null) {
+				stablePolymorphicInstanceSubTypes = new StableWrappingList<ITypeInfo>() {
+					@Override
+					protected ITypeInfo wrap(ITypeInfo subType) {
+						return wrapSubTypeInfo(subType);
+					}
+				};
+			}
+			return stablePolymorphicInstanceSubTypes;
+		}
+
 		@Override
 		public String getName() {
 			return InfoProxyFactory.this.getName(base);
@@ -1240,6 +1414,10 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 
 		@Override
 		public List<ITypeInfo> getPolymorphicInstanceSubTypes() {
+			if (isWrappingStable()) {
+				return getStablePolymorphicInstanceSubTypes()
+						.get(InfoProxyFactory.this.getPolymorphicInstanceSubTypes(base));
+			}
 			List<ITypeInfo> result = new ArrayList<ITypeInfo>();
 			for (ITypeInfo subType : InfoProxyFactory.this.getPolymorphicInstanceSubTypes(base)) {
 				result.add(wrapSubTypeInfo(subType));
@@ -1249,6 +1427,9 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 
 		@Override
 		public List<IMethodInfo> getMethods() {
+			if (isWrappingStable()) {
+				return getStableMethods().get(InfoProxyFactory.this.getMethods(base));
+			}
 			List<IMethodInfo> result = new ArrayList<IMethodInfo>();
 			for (IMethodInfo method : InfoProxyFactory.this.getMethods(base)) {
 				result.add(wrapMethodInfo(method, base));
@@ -1258,6 +1439,9 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 
 		@Override
 		public List<IFieldInfo> getFields() {
+			if (isWrappingStable()) {
+				return getStableFields().get(InfoProxyFactory.this.getFields(base));
+			}
 			List<IFieldInfo> result = new ArrayList<IFieldInfo>();
 			for (IFieldInfo field : InfoProxyFactory.this.getFields(base)) {
 				result.add(wrapFieldInfo(field, base));
@@ -1267,6 +1451,9 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 
 		@Override
 		public List<IMethodInfo> getConstructors() {
+			if (isWrappingStable()) {
+				return getStableConstructors().get(InfoProxyFactory.this.getConstructors(base));
+			}
 			List<IMethodInfo> result = new ArrayList<IMethodInfo>();
 			for (IMethodInfo constructor : InfoProxyFactory.this.getConstructors(base)) {
 				result.add(wrapConstructorInfo(constructor, base));
@@ -1405,7 +1592,8 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 
 	}
 
-	public class GeneratedListTypeInfoProxy extends GeneratedBasicTypeInfoProxy implements IListTypeInfo {
+	public class GeneratedListTypeInfoProxy extends GeneratedBasicTypeInfoProxy
+			implements IInPlaceEditableListTypeInfo {
 
 		public GeneratedListTypeInfoProxy(IListTypeInfo type) {
 			super(type);
@@ -1486,6 +1674,26 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 			return InfoProxyFactory.this.canReplaceContent((IListTypeInfo) base);
 		}
 
+		@Override
+		public boolean canEditItemsInPlace() {
+			return InfoProxyFactory.this.canEditItemsInPlace((IListTypeInfo) base);
+		}
+
+		@Override
+		public void insertItem(Object listValue, int index, Object item) {
+			InfoProxyFactory.this.insertItem((IListTypeInfo) base, listValue, index, item);
+		}
+
+		@Override
+		public Object removeItem(Object listValue, int index) {
+			return InfoProxyFactory.this.removeItem((IListTypeInfo) base, listValue, index);
+		}
+
+		@Override
+		public Object setItem(Object listValue, int index, Object item) {
+			return InfoProxyFactory.this.setItem((IListTypeInfo) base, listValue, index, item);
+		}
+
 		@Override
 		public List<IDynamicListAction> getDynamicActions(List<? extends ItemPosition> selection,
 				Mapper<ItemPosition, ListModificationFactory> listModificationFactoryAccessor) {
@@ -1609,6 +1817,11 @@ public class InfoProxyFactory implements IInfoProxyFactory {
 			InfoProxyFactory.this.onControlVisibilityChange(object, visible, base, containingType);
 		}
 
+		@Override
+		public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+			return InfoProxyFactory.this.subscribeToValueChanges(object, listener, base, containingType);
+		}
+
 		@Override
 		public String getCaption() {
 			return InfoProxyFactory.this.getCaption(base, containingType);
@@ -12,6 +12,7 @@ import java.util.Map;
 import xy.reflect.ui.ReflectionUI;
 import xy.reflect.ui.info.ResourcePath;
 import xy.reflect.ui.info.type.ITypeInfo;
+import xy.reflect.ui.info.type.iterable.IListTypeInfo;
 import xy.reflect.ui.info.type.source.ITypeInfoSource;
 import xy.reflect.ui.info.type.source.PrecomputedTypeInfoSource;
 import xy.reflect.ui.util.ReflectionUIError;
@@ -93,6 +94,11 @@ public class PolymorphicTypeOptionsFactory extends GenericEnumerationFactory {
 				return "PolymorphismExplorationDetector [polymorphicType=" + type.getName() + "]";
 			}
 
+			@Override
+			protected boolean canEditItemsInPlace(IListTypeInfo type) {
+				return canBaseEditItemsInPlace(type);
+			}
+
 			@Override
 			protected ITypeInfoSource getSource(ITypeInfo type) {
 				return new PrecomputedTypeInfoSource(blockedRecursivityType[0],
@@ -0,0 +1,57 @@
+
+
+
+package xy.reflect.ui.info.type.iterable;
+
+/**
+ * Optional extension of {@link IListTypeInfo} that allows to insert, remove or
+ * replace the items of list instances one by one instead of replacing their
+ * whole content.
+ * 
+ * @author olitank
+ *
+ */
+public interface IInPlaceEditableListTypeInfo extends IListTypeInfo {
+
+	/**
+	 * @return true if and only if instances of this list type can have their items
+	 *         inserted, removed or replaced one by one by calling
+	 *         {@link #insertItem(Object, int, Object)},
+	 *         {@link #removeItem(Object, int)} and
+	 *         {@link #setItem(Object, int, Object)}. These operations are then
+	 *         preferred to {@link #replaceContent(Object, Object[])} since their
+	 *         cost does not depend on the list size. Note that they may still
+	 *         throw {@link UnsupportedOperationException} if the given instance
+	 *         turns out to be unmodifiable.
+	 */
+	boolean canEditItemsInPlace();
+
+	/**
+	 * Inserts the given item in the given instance.
+	 *
+	 * @param listValue An instance of the current list type.
+	 * @param index     The future zero-based position of the item.
+	 * @param item      An item supported by this list type.
+	 */
+	void insertItem(Object listValue, int index, Object item);
+
+	/**
+	 * Removes an item from the given instance.
+	 *
+	 * @param listValue An instance of the current list type.
+	 * @param index     The zero-based position of the item.
+	 * @return the removed item.
+	 */
+	Object removeItem(Object listValue, int index);
+
+	/**
+	 * Replaces an item of the given instance.
+	 *
+	 * @param listValue An instance of the current list type.
+	 * @param index     The zero-based position of the item.
+	 * @param item      An item supported by this list type.
+	 * @return the replaced item.
+	 */
+	Object setItem(Object listValue, int index, Object item);
+
+}
@@ -4,11 +4,16 @@
 package xy.reflect.ui.info.type.iterable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedSet;
 import xy.reflect.ui.info.ValueReturnMode;
 import xy.reflect.ui.info.type.DefaultTypeInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
@@ -33,9 +38,10 @@ import xy.reflect.ui.util.ReflectionUIUtils;
  * @author olitank
  *
  */
-public class StandardCollectionTypeInfo extends DefaultTypeInfo implements IListTypeInfo {
+public class StandardCollectionTypeInfo extends DefaultTypeInfo implements IInPlaceEditableListTypeInfo {
 
 	protected ITypeInfo itemType;
+	protected IListStructuralInfo structuralInfo;
 
 	public StandardCollectionTypeInfo(JavaTypeInfoSource source, ITypeInfo itemType) {
 		super(source);
@@ -75,19 +81,84 @@ public class StandardCollectionTypeInfo extends DefaultTypeInfo implements IList
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public void replaceContent(Object listValue, Object[] array) {
-		Collection tmpCollection = new ArrayList();
+		if (listValue instanceof Set) {
+			replaceSetContent((Set) listValue, array);
+			return;
+		}
+		Collection collection = (Collection) listValue;
+		collection.clear();
+		collection.addAll(Arrays.asList(array));
+	}
+
+	/**
+	 * Replaces the content of the given set. Duplicate items are detected through
+	 * a hash-based set. When the iteration order of the set does not depend on
+	 * the insertion order ({@link HashSet} or {@link SortedSet}), only the
+	 * differences are applied: the items that are not in the array (compared by
+	 * identity) are removed and the missing ones are added. Otherwise, or if some
+	 * items cannot be found anymore in the set after this operation (hash codes
+	 * changed since their insertion), the set is cleared and filled again.
+	 * 
+	 * @param set   The set to modify.
+	 * @param array The new items.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected void replaceSetContent(Set set, Object[] array) {
+		Set newItems = new LinkedHashSet(Math.max(16, (array.length * 4) / 3 + 1));
 		for (Object item : array) {
-			if (listValue instanceof Set) {
-				if (tmpCollection.contains(item)) {
-					throw new ReflectionUIError(
-							"Duplicate item: '" + ReflectionUIUtils.toString(reflectionUI, item) + "'");
+			if (!newItems.add(item)) {
+				throw new ReflectionUIError("Duplicate item: '" + ReflectionUIUtils.toString(reflectionUI, item) + "'");
+			}
+		}
+		boolean insertionOrderIgnored = (set instanceof SortedSet)
+				|| ((set instanceof HashSet) && !(set instanceof LinkedHashSet));
+		if (insertionOrderIgnored) {
+			Set<Object> newItemIdentities = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+			newItemIdentities.addAll(newItems);
+			for (Iterator it = set.iterator(); it.hasNext();) {
+				if (!newItemIdentities.contains(it.next())) {
+					it.remove();
+				}
+			}
+			set.addAll(newItems);
+			if (set.size() == newItems.size()) {
+				boolean consistent = true;
+				for (Object item : newItems) {
+					if (!set.contains(item)) {
+						consistent = false;
+						break;
+					}
+				}
+				if (consistent) {
+					return;
 				}
 			}
-			tmpCollection.add(item);
 		}
-		Collection collection = (Collection) listValue;
-		collection.clear();
-		collection.addAll(tmpCollection);
+		set.clear();
+		set.addAll(newItems);
+	}
+
+	@Override
+	public boolean canEditItemsInPlace() {
+		return List.class.isAssignableFrom(getJavaType());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public void insertItem(Object listValue, int index, Object item) {
+		((List) listValue).add(index, item);
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Object removeItem(Object listValue, int index) {
+		return ((List) listValue).remove(index);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public Object setItem(Object listValue, int index, Object item) {
+		return ((List) listValue).set(index, item);
 	}
 
 	@Override
@@ -109,7 +180,10 @@ public class StandardCollectionTypeInfo extends DefaultTypeInfo implements IList
 
 	@Override
 	public IListStructuralInfo getStructuralInfo() {
-		return new DefaultListStructuralInfo(reflectionUI);
+		if (structuralInfo == null) {
+			structuralInfo = new DefaultListStructuralInfo(reflectionUI);
+		}
+		return structuralInfo;
 	}
 
 	@Override
@@ -3,9 +3,10 @@
 
 package xy.reflect.ui.info.type.iterable.item;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import xy.reflect.ui.util.IntKeyMap;
+
 /**
  * This class is a sub-class of {@link AbstractItemPositionFactory} that only
  * creates {@link BufferedItemPosition} instances.
@@ -16,8 +17,10 @@ import java.util.Map;
 public abstract class AbstractBufferedItemPositionFactory extends AbstractItemPositionFactory {
 
 	protected Object[] bufferedRootListRawValue;
+	protected Map<Object, Integer> bufferedRootListItemIndexes;
+	protected long buffersRevision = 0;
 	protected Object bufferedRootListValue;
-	protected Map<Integer, BufferedItemPosition> bufferedRootItemPositionByIndex = new HashMap<Integer, BufferedItemPosition>();
+	protected IntKeyMap<BufferedItemPosition> bufferedRootItemPositionByIndex = new IntKeyMap<BufferedItemPosition>();
 
 	protected abstract Object getNonBufferedRootListValue();
 
@@ -54,6 +57,15 @@ public abstract class AbstractBufferedItemPositionFactory extends AbstractItemPo
 		return bufferedRootListRawValue;
 	}
 
+	/**
+	 * @return a number that changes each time one of the list buffers of this
+	 *         factory or of its item positions is replaced or refreshed. It allows
+	 *         to detect that data derived from these buffers is obsolete.
+	 */
+	public long getBuffersRevision() {
+		return buffersRevision;
+	}
+
 	@Override
 	public void setRootListValue(Object rootListValue) {
 		setNonBufferedRootListValue(rootListValue);
@@ -67,7 +79,9 @@ public abstract class AbstractBufferedItemPositionFactory extends AbstractItemPo
 	public void refresh() {
 		bufferedRootListValue = null;
 		bufferedRootListRawValue = null;
+		bufferedRootListItemIndexes = null;
 		bufferedRootItemPositionByIndex.clear();
+		buffersRevision++;
 	}
 
 	/**
@@ -75,8 +89,8 @@ public abstract class AbstractBufferedItemPositionFactory extends AbstractItemPo
 	 * indirectly) by this factory so that all items will have up-to-date values.
 	 */
 	public void refreshAll() {
-		for (int index : bufferedRootItemPositionByIndex.keySet()) {
-			BufferedItemPosition bufferedRootItemPosition = bufferedRootItemPositionByIndex.get(index);
+		for (int slot = 0; slot < bufferedRootItemPositionByIndex.getSlotCount(); slot++) {
+			BufferedItemPosition bufferedRootItemPosition = bufferedRootItemPositionByIndex.getSlotValue(slot);
 			if (bufferedRootItemPosition == null) {
 				continue;
 			}
@@ -3,11 +3,12 @@ package xy.reflect.ui.info.type.iterable.item;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
 import xy.reflect.ui.info.field.IFieldInfo;
+import xy.reflect.ui.util.IntKeyMap;
 
 /**
  * This class is a sub-class of {@link ItemPosition} that uses buffers to
@@ -40,8 +41,9 @@ public class BufferedItemPosition extends ItemPosition {
 	};
 	protected Object fakeItem;
 	protected Object[] bufferedSubListRawValue;
+	protected Map<Object, Integer> bufferedSubListItemIndexes;
 	protected IFieldInfo bufferedSubListField;
-	protected Map<Integer, BufferedItemPosition> bufferedSubItemPositionByIndex = new HashMap<Integer, BufferedItemPosition>();
+	protected IntKeyMap<BufferedItemPosition> bufferedSubItemPositionByIndex = new IntKeyMap<BufferedItemPosition>();
 
 	protected BufferedItemPosition() {
 		super();
@@ -79,8 +81,10 @@ public class BufferedItemPosition extends ItemPosition {
 			((AbstractBufferedItemPositionFactory) factory).refresh();
 		} else {
 			((BufferedItemPosition) parentItemPosition).bufferedSubListRawValue = null;
+			((BufferedItemPosition) parentItemPosition).bufferedSubListItemIndexes = null;
 			((BufferedItemPosition) parentItemPosition).bufferedSubListField = null;
 			((BufferedItemPosition) parentItemPosition).bufferedSubItemPositionByIndex.clear();
+			getFactory().buffersRevision++;
 		}
 	}
 
@@ -103,17 +107,18 @@ public class BufferedItemPosition extends ItemPosition {
 	 * item positions will be up-to-date after this operation.
 	 */
 	public void refreshBranch() {
-		for (int index : bufferedSubItemPositionByIndex.keySet()) {
-			BufferedItemPosition bufferedSubItemPosition = bufferedSubItemPositionByIndex.get(index);
+		for (int slot = 0; slot < bufferedSubItemPositionByIndex.getSlotCount(); slot++) {
+			BufferedItemPosition bufferedSubItemPosition = bufferedSubItemPositionByIndex.getSlotValue(slot);
 			if (bufferedSubItemPosition == null) {
 				continue;
 			}
 			bufferedSubItemPosition.refreshBranch();
 		}
 		bufferedSubListRawValue = null;
+		bufferedSubListItemIndexes = null;
 		bufferedSubListField = null;
 		bufferedSubItemPositionByIndex.clear();
-
+		getFactory().buffersRevision++;
 	}
 
 	@Override
@@ -190,6 +195,158 @@ public class BufferedItemPosition extends ItemPosition {
 		changeContainingListBuffer(newContainingListRawValue);
 	}
 
+	@Override
+	public void insertInContainingList(int index, Object item) {
+		Object[] buffer = retrieveContainingListRawValue();
+		Map<Object, Integer> itemIndexes = getMaintainableContainingListItemIndexes(buffer);
+		super.insertInContainingList(index, item);
+		if (isContainingListBufferToEdit(buffer)) {
+			Object[] newBuffer = new Object[buffer.length + 1];
+			System.arraycopy(buffer, 0, newBuffer, 0, index);
+			newBuffer[index] = item;
+			System.arraycopy(buffer, index, newBuffer, index + 1, buffer.length - index);
+			if (itemIndexes != null) {
+				if (itemIndexes.containsKey(item)) {
+					itemIndexes = null;
+				} else {
+					for (int i = index; i < newBuffer.length; i++) {
+						itemIndexes.put(newBuffer[i], i);
+					}
+				}
+			}
+			setContainingListBuffer(newBuffer, itemIndexes);
+		}
+	}
+
+	@Override
+	public Object removeFromContainingList(int index) {
+		Object[] buffer = retrieveContainingListRawValue();
+		Map<Object, Integer> itemIndexes = getMaintainableContainingListItemIndexes(buffer);
+		Object result = super.removeFromContainingList(index);
+		if (isContainingListBufferToEdit(buffer)) {
+			Object[] newBuffer = new Object[buffer.length - 1];
+			System.arraycopy(buffer, 0, newBuffer, 0, index);
+			System.arraycopy(buffer, index + 1, newBuffer, index, buffer.length - index - 1);
+			if (itemIndexes != null) {
+				itemIndexes.remove(buffer[index]);
+				for (int i = index; i < newBuffer.length; i++) {
+					itemIndexes.put(newBuffer[i], i);
+				}
+			}
+			setContainingListBuffer(newBuffer, itemIndexes);
+		}
+		return result;
+	}
+
+	@Override
+	public Object setInContainingList(int index, Object item) {
+		Object[] buffer = retrieveContainingListRawValue();
+		Map<Object, Integer> itemIndexes = getMaintainableContainingListItemIndexes(buffer);
+		Object result = super.setInContainingList(index, item);
+		if (isContainingListBufferToEdit(buffer)) {
+			Object[] newBuffer = buffer.clone();
+			newBuffer[index] = item;
+			if (itemIndexes != null) {
+				itemIndexes.remove(buffer[index]);
+				if (itemIndexes.containsKey(item)) {
+					itemIndexes = null;
+				} else {
+					itemIndexes.put(item, index);
+				}
+			}
+			setContainingListBuffer(newBuffer, itemIndexes);
+		}
+		return result;
+	}
+
+	/**
+	 * @param oldBuffer The containing list buffer before an item insertion, removal
+	 *                  or replacement.
+	 * @return true if the edit was performed in place and must then be applied to
+	 *         the given buffer. Note that the buffer is dropped when the edited list
+	 *         value is set back to the factory. Otherwise (the containing list
+	 *         content was replaced) the buffer is already up-to-date.
+	 */
+	protected boolean isContainingListBufferToEdit(Object[] oldBuffer) {
+		Object[] currentBuffer = getContainingListBuffer();
+		return (currentBuffer == oldBuffer) || (currentBuffer == null);
+	}
+
+	/**
+	 * @return the current buffer of the containing list (stored in the parent item
+	 *         position or in the factory if the current item position is root) or
+	 *         null if it has not been loaded yet.
+	 */
+	protected Object[] getContainingListBuffer() {
+		if (isRoot()) {
+			return getFactory().bufferedRootListRawValue;
+		} else {
+			return getParentItemPosition().bufferedSubListRawValue;
+		}
+	}
+
+	/**
+	 * Replaces the buffer of the containing list without copying the given array.
+	 * 
+	 * @param buffer      The new buffer.
+	 * @param itemIndexes The identity index of the new buffer items (see
+	 *                    {@link #getContainingListItemIndex(Object)}) or null if
+	 *                    it must be rebuilt when needed.
+	 */
+	protected void setContainingListBuffer(Object[] buffer, Map<Object, Integer> itemIndexes) {
+		if (isRoot()) {
+			getFactory().bufferedRootListRawValue = buffer;
+			getFactory().bufferedRootListItemIndexes = itemIndexes;
+		} else {
+			getParentItemPosition().bufferedSubListRawValue = buffer;
+			getParentItemPosition().bufferedSubListItemIndexes = itemIndexes;
+		}
+		getFactory().buffersRevision++;
+	}
+
+	/**
+	 * @param item The item to search.
+	 * @return the index of the given item (compared by identity) in the containing
+	 *         list buffer or -1 if the item is not found. If the buffer contains
+	 *         the item several times then the first index is returned. The identity
+	 *         index of the buffer is built on the first call and then maintained by
+	 *         the insertions, removals and replacements performed through this
+	 *         class, unless the buffer contains duplicate items.
+	 */
+	public int getContainingListItemIndex(Object item) {
+		Object[] buffer = retrieveContainingListRawValue();
+		Map<Object, Integer> itemIndexes = isRoot() ? getFactory().bufferedRootListItemIndexes
+				: getParentItemPosition().bufferedSubListItemIndexes;
+		if (itemIndexes == null) {
+			itemIndexes = new IdentityHashMap<Object, Integer>(buffer.length);
+			for (int i = buffer.length - 1; i >= 0; i--) {
+				itemIndexes.put(buffer[i], i);
+			}
+			if (isRoot()) {
+				getFactory().bufferedRootListItemIndexes = itemIndexes;
+			} else {
+				getParentItemPosition().bufferedSubListItemIndexes = itemIndexes;
+			}
+		}
+		Integer result = itemIndexes.get(item);
+		return (result == null) ? -1 : result;
+	}
+
+	/**
+	 * @param buffer The current containing list buffer.
+	 * @return the identity index of the given buffer items if it exists and can be
+	 *         updated incrementally (the buffer does not contain duplicate items),
+	 *         null otherwise.
+	 */
+	protected Map<Object, Integer> getMaintainableContainingListItemIndexes(Object[] buffer) {
+		Map<Object, Integer> result = isRoot() ? getFactory().bufferedRootListItemIndexes
+				: getParentItemPosition().bufferedSubListItemIndexes;
+		if ((result == null) || (result.size() != buffer.length)) {
+			return null;
+		}
+		return result;
+	}
+
 	/**
 	 * Updates the buffer of the containing list (or the factory if the current item
 	 * position is root). Note that this method is not recursive.
@@ -199,13 +356,7 @@ public class BufferedItemPosition extends ItemPosition {
 	 *                                  items.
 	 */
 	public void changeContainingListBuffer(Object[] newContainingListRawValue) {
-		if (isRoot()) {
-			getFactory().bufferedRootListRawValue = Arrays.copyOf(newContainingListRawValue,
-					newContainingListRawValue.length);
-		} else {
-			getParentItemPosition().bufferedSubListRawValue = Arrays.copyOf(newContainingListRawValue,
-					newContainingListRawValue.length);
-		}
+		setContainingListBuffer(Arrays.copyOf(newContainingListRawValue, newContainingListRawValue.length), null);
 	}
 
 	@Override
@@ -217,7 +368,8 @@ public class BufferedItemPosition extends ItemPosition {
 		if (result != null) {
 			result.bufferedSubListField = null;
 			result.bufferedSubListRawValue = null;
-			result.bufferedSubItemPositionByIndex = new HashMap<Integer, BufferedItemPosition>();
+			result.bufferedSubListItemIndexes = null;
+			result.bufferedSubItemPositionByIndex = new IntKeyMap<BufferedItemPosition>();
 		}
 		bufferedSubItemPositionByIndex.put(index, result);
 		return result;
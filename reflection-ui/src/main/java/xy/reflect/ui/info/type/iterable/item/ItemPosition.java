@@ -4,12 +4,14 @@
 package xy.reflect.ui.info.type.iterable.item;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import xy.reflect.ui.info.ValueReturnMode;
 import xy.reflect.ui.info.field.IFieldInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
+import xy.reflect.ui.info.type.iterable.IInPlaceEditableListTypeInfo;
 import xy.reflect.ui.info.type.iterable.IListTypeInfo;
 import xy.reflect.ui.info.type.iterable.structure.IListStructuralInfo;
 import xy.reflect.ui.util.ReflectionUIError;
@@ -457,6 +459,131 @@ public class ItemPosition implements Cloneable {
 		}
 	}
 
+	/**
+	 * Inserts the given item in the containing list. Unlike
+	 * {@link #updateContainingList(Object[])}, the containing list content is not
+	 * replaced when its type supports in-place item edition (see
+	 * {@link IInPlaceEditableListTypeInfo#canEditItemsInPlace()}) and the
+	 * containing list value accepts it. Parent item positions are updated the
+	 * same way.
+	 * 
+	 * Note that this method must not be called if
+	 * {@link #isContainingListEditable()} returns false.
+	 * 
+	 * @param index The future zero-based position of the item.
+	 * @param item  The item to insert.
+	 */
+	public void insertInContainingList(final int index, final Object item) {
+		checkContainingListItem(item);
+		editContainingList(new ContainingListEdit() {
+
+			@Override
+			public Object applyInPlace(IInPlaceEditableListTypeInfo listType, Object listValue) {
+				listType.insertItem(listValue, index, item);
+				return null;
+			}
+
+			@Override
+			public Object apply(List<Object> items) {
+				items.add(index, item);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Removes an item from the containing list. See
+	 * {@link #insertInContainingList(int, Object)} for more details.
+	 * 
+	 * @param index The zero-based position of the item.
+	 * @return the removed item.
+	 */
+	public Object removeFromContainingList(final int index) {
+		return editContainingList(new ContainingListEdit() {
+
+			@Override
+			public Object applyInPlace(IInPlaceEditableListTypeInfo listType, Object listValue) {
+				return listType.removeItem(listValue, index);
+			}
+
+			@Override
+			public Object apply(List<Object> items) {
+				return items.remove(index);
+			}
+		});
+	}
+
+	/**
+	 * Replaces an item of the containing list. See
+	 * {@link #insertInContainingList(int, Object)} for more details.
+	 * 
+	 * @param index The zero-based position of the item.
+	 * @param item  The new item.
+	 * @return the replaced item.
+	 */
+	public Object setInContainingList(final int index, final Object item) {
+		checkContainingListItem(item);
+		return editContainingList(new ContainingListEdit() {
+
+			@Override
+			public Object applyInPlace(IInPlaceEditableListTypeInfo listType, Object listValue) {
+				return listType.setItem(listValue, index, item);
+			}
+
+			@Override
+			public Object apply(List<Object> items) {
+				return items.set(index, item);
+			}
+		});
+	}
+
+	protected Object editContainingList(ContainingListEdit edit) {
+		IListTypeInfo listType = getContainingListType();
+		Object containingListValue = null;
+		boolean inPlace = false;
+		if ((listType instanceof IInPlaceEditableListTypeInfo)
+				&& ((IInPlaceEditableListTypeInfo) listType).canEditItemsInPlace()) {
+			containingListValue = retrieveContainingListValue();
+			if (containingListValue != null) {
+				if ((geContainingListReturnMode() == ValueReturnMode.DIRECT_OR_PROXY) || !isContainingListGetOnly()) {
+					inPlace = true;
+				}
+			}
+		}
+		ItemPosition parentItemPosition = getParentItemPosition();
+		Object parentItem = (isRoot() || !inPlace) ? null : parentItemPosition.getItem();
+		Object result = null;
+		if (inPlace) {
+			try {
+				result = edit.applyInPlace((IInPlaceEditableListTypeInfo) listType, containingListValue);
+			} catch (UnsupportedOperationException e) {
+				/*
+				 * The list value is actually unmodifiable (ex: Arrays.asList(),
+				 * Collections.unmodifiableList(), ...). Its content is then replaced the
+				 * usual way.
+				 */
+				inPlace = false;
+			}
+		}
+		if (!inPlace) {
+			List<Object> items = new ArrayList<Object>(Arrays.asList(retrieveContainingListRawValue()));
+			result = edit.apply(items);
+			updateContainingList(items.toArray());
+			return result;
+		}
+		if (geContainingListReturnMode() != ValueReturnMode.DIRECT_OR_PROXY) {
+			if (isRoot()) {
+				getFactory().setRootListValue(containingListValue);
+			} else {
+				getContainingListFieldIfNotRoot().setValue(parentItem, containingListValue);
+			}
+		}
+		if (!isRoot()) {
+			parentItemPosition.setInContainingList(parentItemPosition.getIndex(), parentItem);
+		}
+		return result;
+	}
+
 	/**
 	 * Validates that all the given items are supported by the containing list.
 	 * 
@@ -469,12 +596,27 @@ public class ItemPosition implements Cloneable {
 		ITypeInfo itemType = listType.getItemType();
 		if (itemType != null) {
 			for (Object item : listRawValue) {
-				if (item != null) {
-					if (!supportsItem(item)) {
-						throw new ReflectionUIError("Item not supported: '" + item + "'. Was expecting instance of '"
-								+ itemType.getName() + "'");
+				checkContainingListItem(item);
+			}
+		}
+	}
+
+	/**
+	 * Validates that the given item is supported by the containing list.
+	 * 
+	 * @param item The item to be checked.
+	 * @throws ReflectionUIError if the given item is not supported by the
+	 *                           containing list.
+	 */
+	public void checkContainingListItem(Object item) {
+		IListTypeInfo listType = getContainingListType();
+		ITypeInfo itemType = listType.getItemType();
+		if (itemType != null) {
+			if (item != null) {
+				if (!supportsItem(item)) {
+					throw new ReflectionUIError("Item not supported: '" + item + "'. Was expecting instance of '"
+							+ itemType.getName() + "'");
 
-					}
 				}
 			}
 		}
@@ -559,4 +701,19 @@ public class ItemPosition implements Cloneable {
 		return "ItemPosition [path=" + getPath() + "]";
 	}
 
+	/**
+	 * Edition of a containing list that is applied either directly on the list
+	 * value or on a copy of the list items.
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected static abstract class ContainingListEdit {
+
+		public abstract Object applyInPlace(IInPlaceEditableListTypeInfo listType, Object listValue);
+
+		public abstract Object apply(List<Object> items);
+
+	}
+
 }
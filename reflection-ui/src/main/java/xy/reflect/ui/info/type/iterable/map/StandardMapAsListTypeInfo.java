@@ -3,13 +3,17 @@
 
 package xy.reflect.ui.info.type.iterable.map;
 
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+
+import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.info.type.iterable.StandardCollectionTypeInfo;
 import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
+import xy.reflect.ui.util.CacheRegistry;
 import xy.reflect.ui.util.PrecomputedTypeInstanceWrapper;
 import xy.reflect.ui.util.ReflectionUIError;
 import xy.reflect.ui.util.ReflectionUIUtils;
@@ -18,6 +22,11 @@ import xy.reflect.ui.util.ReflectionUIUtils;
  * Type information extracted from the Java standard map type (assignable to
  * {@link Map}) encapsulated in the given type information source.
  * 
+ * Note that the entry wrappers returned by {@link #toArray(Object)} are reused
+ * across calls for each map instance, as long as the key and the value of each
+ * entry remain identical. These wrappers are weakly referenced and then do not
+ * prevent the garbage collection of the maps, their keys or their values.
+ * 
  * @author olitank
  *
  */
@@ -27,6 +36,11 @@ public class StandardMapAsListTypeInfo extends StandardCollectionTypeInfo {
 	protected Class<?> valueJavaType;
 
 	protected JavaTypeInfoSource entryTypeSource;
+	protected ITypeInfo entryType;
+
+	protected ConcurrentMap<Map<?, ?>, Map<Object, PrecomputedTypeInstanceWrapper>> entryWrapperCacheByMap = CacheRegistry
+			.newMap(StandardMapAsListTypeInfo.class.getName() + ".entryWrapperCacheByMap", true, false, -1,
+					CacheRegistry.DEFAULT_CLEAN_UP_PERIOD_MILLISECONDS);
 
 	public StandardMapAsListTypeInfo(JavaTypeInfoSource source, Class<?> keyJavaType, Class<?> valueJavaType) {
 		super(source, null);
@@ -34,8 +48,8 @@ public class StandardMapAsListTypeInfo extends StandardCollectionTypeInfo {
 		this.valueJavaType = valueJavaType;
 		this.entryTypeSource = new JavaTypeInfoSource(reflectionUI, StandardMapEntry.class,
 				new Class[] { keyJavaType, valueJavaType }, null);
-		this.itemType = reflectionUI
-				.buildTypeInfo(new PrecomputedTypeInstanceWrapper.TypeInfoSource(entryTypeSource.getTypeInfo()));
+		this.entryType = entryTypeSource.getTypeInfo();
+		this.itemType = reflectionUI.buildTypeInfo(new PrecomputedTypeInstanceWrapper.TypeInfoSource(entryType));
 	}
 
 	public static boolean isCompatibleWith(Class<?> javaType) {
@@ -72,16 +86,60 @@ public class StandardMapAsListTypeInfo extends StandardCollectionTypeInfo {
 		map.putAll(tmpMap);
 	}
 
-	@SuppressWarnings({ "rawtypes" })
 	@Override
 	public Object[] toArray(Object listValue) {
-		List<Object> result = new ArrayList<Object>();
-		for (Object obj : ((Map) listValue).entrySet()) {
-			Map.Entry entry = (Entry) obj;
-			StandardMapEntry standardMapEntry = new StandardMapEntry(entry.getKey(), entry.getValue());
-			result.add(new PrecomputedTypeInstanceWrapper(standardMapEntry, entryTypeSource.getTypeInfo()));
+		Map<?, ?> map = (Map<?, ?>) listValue;
+		Map<Object, PrecomputedTypeInstanceWrapper> entryWrapperByKey = getEntryWrapperCache(map);
+		Object[] result = new Object[map.size()];
+		int i = 0;
+		for (Entry<?, ?> entry : map.entrySet()) {
+			result[i++] = getEntryWrapper(entryWrapperByKey, entry);
+		}
+		if (entryWrapperByKey.size() > map.size()) {
+			entryWrapperByKey.keySet().retainAll(map.keySet());
+		}
+		return result;
+	}
+
+	/**
+	 * @param map The map instance.
+	 * @return the entry wrappers previously created for the given map instance
+	 *         (weakly indexed by key identity) or a new empty cache if the given
+	 *         map was not yet passed to {@link #toArray(Object)}.
+	 */
+	protected Map<Object, PrecomputedTypeInstanceWrapper> getEntryWrapperCache(Map<?, ?> map) {
+		Map<Object, PrecomputedTypeInstanceWrapper> result = entryWrapperCacheByMap.get(map);
+		if (result == null) {
+			result = new MapMaker().weakKeys().weakValues().makeMap();
+			Map<Object, PrecomputedTypeInstanceWrapper> concurrentResult = entryWrapperCacheByMap.putIfAbsent(map,
+					result);
+			if (concurrentResult != null) {
+				result = concurrentResult;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param entryWrapperByKey The entry wrapper cache.
+	 * @param entry             The map entry.
+	 * @return the cached wrapper of the given entry if its key and value are
+	 *         still identical to the ones of the map entry, otherwise a new
+	 *         wrapper that replaces the cached one.
+	 */
+	protected PrecomputedTypeInstanceWrapper getEntryWrapper(
+			Map<Object, PrecomputedTypeInstanceWrapper> entryWrapperByKey, Entry<?, ?> entry) {
+		PrecomputedTypeInstanceWrapper result = entryWrapperByKey.get(entry.getKey());
+		if (result != null) {
+			StandardMapEntry standardMapEntry = (StandardMapEntry) result.unwrap();
+			if ((standardMapEntry.getKey() == entry.getKey()) && (standardMapEntry.getValue() == entry.getValue())) {
+				return result;
+			}
 		}
-		return result.toArray();
+		result = new PrecomputedTypeInstanceWrapper(new StandardMapEntry(entry.getKey(), entry.getValue()),
+				entryType);
+		entryWrapperByKey.put(entry.getKey(), result);
+		return result;
 	}
 
 	@Override
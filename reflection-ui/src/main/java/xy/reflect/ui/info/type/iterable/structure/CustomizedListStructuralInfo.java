@@ -5,6 +5,8 @@ import java.awt.Dimension;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import xy.reflect.ui.ReflectionUI;
 import xy.reflect.ui.info.custom.InfoCustomizations;
@@ -42,6 +44,10 @@ import xy.reflect.ui.util.ReflectionUIUtils;
  * Structural information proxy that conforms the base structural information to
  * the specified {@link ListCustomization}.
  * 
+ * Note that the columns are computed once at construction time. Instances must
+ * then be discarded when the customizations change. Since instances are shared,
+ * the lists that they return are unmodifiable.
+ * 
  * @author olitank
  *
  */
@@ -53,6 +59,7 @@ public class CustomizedListStructuralInfo extends ListStructuralInfoProxy {
 	protected List<IColumnInfo> columns;
 	protected IListTypeInfo listType;
 	protected ITypeInfo rootItemType;
+	protected Map<String, List<IFieldInfo>> subListCandidateFieldsByItemTypeName = new ConcurrentHashMap<String, List<IFieldInfo>>();
 
 	public CustomizedListStructuralInfo(ReflectionUI reflectionUI, IListStructuralInfo base, IListTypeInfo listType,
 			ListCustomization listCustomization) {
@@ -62,8 +69,16 @@ public class CustomizedListStructuralInfo extends ListStructuralInfoProxy {
 		this.listCustomization = listCustomization;
 		this.reflectionUI = reflectionUI;
 		this.rootItemType = findRootItemType();
-		this.columnFields = collectFields();
-		this.columns = getColumns();
+		this.columnFields = Collections.unmodifiableList(collectFields());
+		this.columns = Collections.unmodifiableList(createColumns());
+	}
+
+	public IListTypeInfo getListType() {
+		return listType;
+	}
+
+	public ListCustomization getListCustomization() {
+		return listCustomization;
 	}
 
 	@Override
@@ -110,8 +125,8 @@ public class CustomizedListStructuralInfo extends ListStructuralInfoProxy {
 		if (listCustomization.getTreeStructureDiscoverySettings() == null) {
 			return super.getItemSubListField(itemPosition);
 		}
-		List<IFieldInfo> candidateFields = getItemSubListCandidateFields(itemPosition);
 		ITypeInfo actualItemType = reflectionUI.buildTypeInfo(reflectionUI.getTypeInfoSource(item));
+		List<IFieldInfo> candidateFields = getItemSubListCandidateFields(actualItemType);
 		if (candidateFields.size() == 0) {
 			return null;
 		} else if (candidateFields.size() == 1) {
@@ -131,29 +146,48 @@ public class CustomizedListStructuralInfo extends ListStructuralInfoProxy {
 	}
 
 	protected List<IFieldInfo> getItemSubListCandidateFields(ItemPosition itemPosition) {
-		List<IFieldInfo> result = new ArrayList<IFieldInfo>();
 		Object item = itemPosition.getItem();
-		if (item != null) {
-			ITypeInfo actualItemType = reflectionUI.buildTypeInfo(reflectionUI.getTypeInfoSource(item));
-			List<IFieldInfo> itemFields = actualItemType.getFields();
-			for (IFieldInfo field : itemFields) {
-				boolean excluded = false;
-				for (InfoFilter excludedField : listCustomization.getTreeStructureDiscoverySettings()
-						.getExcludedSubListFields()) {
-					if (excludedField.matches(field.getName())) {
-						excluded = true;
-						break;
-					}
-				}
-				if (excluded) {
-					continue;
+		if (item == null) {
+			return Collections.emptyList();
+		}
+		return getItemSubListCandidateFields(reflectionUI.buildTypeInfo(reflectionUI.getTypeInfoSource(item)));
+	}
+
+	/**
+	 * @param actualItemType The type information of an item.
+	 * @return the fields that may provide the sub-list of the items of the given
+	 *         type. Note that this result depends only on the item type and is
+	 *         then cached by type name.
+	 */
+	protected List<IFieldInfo> getItemSubListCandidateFields(ITypeInfo actualItemType) {
+		List<IFieldInfo> result = subListCandidateFieldsByItemTypeName.get(actualItemType.getName());
+		if (result == null) {
+			result = Collections.unmodifiableList(collectItemSubListCandidateFields(actualItemType));
+			subListCandidateFieldsByItemTypeName.put(actualItemType.getName(), result);
+		}
+		return result;
+	}
+
+	protected List<IFieldInfo> collectItemSubListCandidateFields(ITypeInfo actualItemType) {
+		List<IFieldInfo> result = new ArrayList<IFieldInfo>();
+		List<IFieldInfo> itemFields = actualItemType.getFields();
+		for (IFieldInfo field : itemFields) {
+			boolean excluded = false;
+			for (InfoFilter excludedField : listCustomization.getTreeStructureDiscoverySettings()
+					.getExcludedSubListFields()) {
+				if (excludedField.matches(field.getName())) {
+					excluded = true;
+					break;
 				}
-				ITypeInfo fieldType = field.getType();
-				if (fieldType instanceof IListTypeInfo) {
-					ITypeInfo subListItemType = ((IListTypeInfo) fieldType).getItemType();
-					if (isValidSubListItemType(subListItemType)) {
-						result.add(field);
-					}
+			}
+			if (excluded) {
+				continue;
+			}
+			ITypeInfo fieldType = field.getType();
+			if (fieldType instanceof IListTypeInfo) {
+				ITypeInfo subListItemType = ((IListTypeInfo) fieldType).getItemType();
+				if (isValidSubListItemType(subListItemType)) {
+					result.add(field);
 				}
 			}
 		}
@@ -209,6 +243,10 @@ public class CustomizedListStructuralInfo extends ListStructuralInfoProxy {
 
 	@Override
 	public List<IColumnInfo> getColumns() {
+		return columns;
+	}
+
+	protected List<IColumnInfo> createColumns() {
 		final List<IColumnInfo> result = new ArrayList<IColumnInfo>();
 		result.addAll(super.getColumns());
 
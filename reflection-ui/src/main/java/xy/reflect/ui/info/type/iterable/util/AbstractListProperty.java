@@ -56,6 +56,12 @@ public abstract class AbstractListProperty extends AbstractInfo implements IDyna
 	public void onControlVisibilityChange(Object object, boolean visible) {
 	}
 
+
+	@Override
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return null;
+	}
+
 	public boolean isEnabled() {
 		return true;
 	}
@@ -43,6 +43,10 @@ public class DynamicListPropertyProxy implements IDynamicListProperty {
 		base.onControlVisibilityChange(object, visible);
 	}
 
+	public Runnable subscribeToValueChanges(Object object, Runnable listener) {
+		return base.subscribeToValueChanges(object, listener);
+	}
+
 	public Map<String, Object> getSpecificProperties() {
 		return base.getSpecificProperties();
 	}
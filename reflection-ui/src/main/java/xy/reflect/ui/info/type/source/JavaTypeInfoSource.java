@@ -7,12 +7,17 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import com.fasterxml.classmate.MemberResolver;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.ResolvedTypeWithMembers;
@@ -30,6 +35,7 @@ import xy.reflect.ui.info.type.iterable.map.StandardMapAsListTypeInfo;
 import xy.reflect.ui.info.type.iterable.map.StandardMapEntryTypeInfo;
 import xy.reflect.ui.util.MiscUtils;
 import xy.reflect.ui.util.ReflectionUIError;
+import xy.reflect.ui.util.SystemProperties;
 
 /**
  * Type information source for Java types. It extracts {@link ITypeInfo}
@@ -40,8 +46,13 @@ import xy.reflect.ui.util.ReflectionUIError;
  */
 public class JavaTypeInfoSource implements ITypeInfoSource {
 
-	protected static final Map<JavaTypeInfoSource, DefaultTypeInfo> CACHE = MiscUtils.newWeakValuesEqualityBasedMap();
-	protected static final Object CACHE_MUTEX = new Object();
+	protected static final Map<JavaTypeInfoSource, DefaultTypeInfo> CACHE = MiscUtils.newAutoCleanUpCache(false,
+			true, (int) SystemProperties.getStandardCacheSize(), 5000, "JavaTypeInfoCacheCleaner");
+	protected static final ConcurrentMap<JavaTypeInfoSource, ConstructionTask> PENDING_TASKS = new ConcurrentHashMap<JavaTypeInfoSource, ConstructionTask>();
+	protected static final Map<Thread, Thread> CONSTRUCTION_OWNER_BY_WAITING_THREAD = new HashMap<Thread, Thread>();
+
+	protected static final TypeResolver TYPE_RESOLVER = new TypeResolver();
+	protected static final MemberResolver MEMBER_RESOLVER = new MemberResolver(TYPE_RESOLVER);
 
 	protected ReflectionUI reflectionUI;
 	protected Class<?> javaType;
@@ -74,46 +85,129 @@ public class JavaTypeInfoSource implements ITypeInfoSource {
 		this.specificitiesIdentifier = specificitiesIdentifier;
 	}
 
+	/**
+	 * Returns the cached type information or builds it. Concurrent requests for
+	 * the same type wait for a single construction while different types can be
+	 * introspected in parallel. A type information requested again by the thread
+	 * that is building it, or whose construction would wait (directly or not) for
+	 * the current thread, is not awaited: an equivalent uncached instance is
+	 * built instead.
+	 */
 	@Override
 	public DefaultTypeInfo getTypeInfo() {
-		synchronized (CACHE_MUTEX) {
-			DefaultTypeInfo result = CACHE.get(this);
-			if (result == null) {
-				if (StandardCollectionTypeInfo.isCompatibleWith(getJavaType())) {
-					Class<?> itemClass = guessGenericTypeParameters(Collection.class, 0);
-					ITypeInfo itemType;
-					if (itemClass == null) {
-						itemType = null;
-					} else {
-						itemType = reflectionUI.buildTypeInfo(new JavaTypeInfoSource(reflectionUI, itemClass, null));
-					}
-					result = new StandardCollectionTypeInfo(this, itemType);
-				} else if (StandardMapAsListTypeInfo.isCompatibleWith(getJavaType())) {
-					Class<?> keyClass = guessGenericTypeParameters(Map.class, 0);
-					Class<?> valueClass = guessGenericTypeParameters(Map.class, 1);
-					result = new StandardMapAsListTypeInfo(this, keyClass, valueClass);
-				} else if (StandardMapEntryTypeInfo.isCompatibleWith(getJavaType())) {
-					Class<?> keyClass = null;
-					Class<?> valueClass = null;
-					Class<?>[] genericParams = getGenericTypeParameters();
-					if (genericParams != null) {
-						keyClass = genericParams[0];
-						valueClass = genericParams[1];
-					}
-					result = new StandardMapEntryTypeInfo(this, keyClass, valueClass);
-				} else if (getJavaType().isArray()) {
-					result = new ArrayTypeInfo(this);
-				} else if (getJavaType().isEnum()) {
-					result = new StandardEnumerationTypeInfo(this);
-				} else {
-					result = new DefaultTypeInfo(this);
+		DefaultTypeInfo result = CACHE.get(this);
+		if (result != null) {
+			return result;
+		}
+		ConstructionTask task = new ConstructionTask(Thread.currentThread(), new Callable<DefaultTypeInfo>() {
+			@Override
+			public DefaultTypeInfo call() throws Exception {
+				DefaultTypeInfo result = CACHE.get(JavaTypeInfoSource.this);
+				if (result == null) {
+					result = createTypeInfo();
+					CACHE.put(JavaTypeInfoSource.this, result);
 				}
-				CACHE.put(this, result);
+				return result;
 			}
-			return result;
+		});
+		ConstructionTask pendingTask = PENDING_TASKS.putIfAbsent(this, task);
+		if (pendingTask == null) {
+			try {
+				task.run();
+			} finally {
+				PENDING_TASKS.remove(this, task);
+			}
+			return getTaskResult(task);
+		}
+		if (!startWaitingFor(pendingTask)) {
+			return createTypeInfo();
+		}
+		try {
+			return getTaskResult(pendingTask);
+		} finally {
+			stopWaiting();
+		}
+	}
+
+	/**
+	 * Registers the current thread as waiting for the given construction task,
+	 * unless this task is owned by the current thread or by a thread that is
+	 * itself waiting (directly or not) for the current thread.
+	 * 
+	 * @param task The construction task that the current thread would wait for.
+	 * @return whether the current thread can safely wait for the given task.
+	 */
+	protected static boolean startWaitingFor(ConstructionTask task) {
+		Thread currentThread = Thread.currentThread();
+		synchronized (CONSTRUCTION_OWNER_BY_WAITING_THREAD) {
+			for (Thread thread = task.getOwnerThread(); thread != null; thread = CONSTRUCTION_OWNER_BY_WAITING_THREAD
+					.get(thread)) {
+				if (thread == currentThread) {
+					return false;
+				}
+			}
+			CONSTRUCTION_OWNER_BY_WAITING_THREAD.put(currentThread, task.getOwnerThread());
+			return true;
 		}
 	}
 
+	protected static void stopWaiting() {
+		synchronized (CONSTRUCTION_OWNER_BY_WAITING_THREAD) {
+			CONSTRUCTION_OWNER_BY_WAITING_THREAD.remove(Thread.currentThread());
+		}
+	}
+
+	protected DefaultTypeInfo getTaskResult(FutureTask<DefaultTypeInfo> task) {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			throw new ReflectionUIError(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new ReflectionUIError(cause);
+		}
+	}
+
+	protected DefaultTypeInfo createTypeInfo() {
+		DefaultTypeInfo result;
+		if (StandardCollectionTypeInfo.isCompatibleWith(getJavaType())) {
+			Class<?> itemClass = guessGenericTypeParameters(Collection.class, 0);
+			ITypeInfo itemType;
+			if (itemClass == null) {
+				itemType = null;
+			} else {
+				itemType = reflectionUI.buildTypeInfo(new JavaTypeInfoSource(reflectionUI, itemClass, null));
+			}
+			result = new StandardCollectionTypeInfo(this, itemType);
+		} else if (StandardMapAsListTypeInfo.isCompatibleWith(getJavaType())) {
+			Class<?> keyClass = guessGenericTypeParameters(Map.class, 0);
+			Class<?> valueClass = guessGenericTypeParameters(Map.class, 1);
+			result = new StandardMapAsListTypeInfo(this, keyClass, valueClass);
+		} else if (StandardMapEntryTypeInfo.isCompatibleWith(getJavaType())) {
+			Class<?> keyClass = null;
+			Class<?> valueClass = null;
+			Class<?>[] genericParams = getGenericTypeParameters();
+			if (genericParams != null) {
+				keyClass = genericParams[0];
+				valueClass = genericParams[1];
+			}
+			result = new StandardMapEntryTypeInfo(this, keyClass, valueClass);
+		} else if (getJavaType().isArray()) {
+			result = new ArrayTypeInfo(this);
+		} else if (getJavaType().isEnum()) {
+			result = new StandardEnumerationTypeInfo(this);
+		} else {
+			result = new DefaultTypeInfo(this);
+		}
+		return result;
+	}
+
 	public ReflectionUI getReflectionUI() {
 		return reflectionUI;
 	}
@@ -140,58 +234,12 @@ public class JavaTypeInfoSource implements ITypeInfoSource {
 	}
 
 	public List<Class<?>> guessGenericTypeParameters(Class<?> parameterizedBaseClass) {
-		TypeResolver typeResolver = new TypeResolver();
-		ResolvedType resolvedType = null;
+		ResolvedType resolvedType;
 		if (declaringMember == null) {
-			resolvedType = typeResolver.resolve(javaType);
+			resolvedType = TYPE_RESOLVER.resolve(javaType);
 		} else {
-			MemberResolver memberResolver = new MemberResolver(typeResolver);
-			ResolvedType declaringResolvedType = typeResolver.resolve(declaringMember.getDeclaringClass());
-			ResolvedTypeWithMembers resolvedTypeWithMembers = memberResolver.resolve(declaringResolvedType, null, null);
-			if (declaringMember instanceof Field) {
-				ResolvedField[] resolvedFields;
-				if (Modifier.isStatic(declaringMember.getModifiers())) {
-					resolvedFields = resolvedTypeWithMembers.getStaticFields();
-				} else {
-					resolvedFields = resolvedTypeWithMembers.getMemberFields();
-				}
-				for (ResolvedField resolvedField : resolvedFields) {
-					if (resolvedField.getRawMember().equals(declaringMember)) {
-						resolvedType = resolvedField.getType();
-						break;
-					}
-				}
-			} else if (declaringMember instanceof Method) {
-				ResolvedMethod[] resolvedMethods;
-				if (Modifier.isStatic(declaringMember.getModifiers())) {
-					resolvedMethods = resolvedTypeWithMembers.getStaticMethods();
-				} else {
-					resolvedMethods = resolvedTypeWithMembers.getMemberMethods();
-				}
-				for (ResolvedMethod resolvedMethod : resolvedMethods) {
-					if (resolvedMethod.getRawMember().equals(declaringMember)) {
-						if (declaringInvokableParameterPosition == -1) {
-							resolvedType = resolvedMethod.getType();
-						} else {
-							resolvedType = resolvedMethod.getArgumentType(declaringInvokableParameterPosition);
-						}
-						break;
-					}
-				}
-			} else if (declaringMember instanceof Constructor) {
-				for (ResolvedConstructor resolvedConstructor : resolvedTypeWithMembers.getConstructors()) {
-					if (resolvedConstructor.getRawMember().equals(declaringMember)) {
-						if (declaringInvokableParameterPosition == -1) {
-							resolvedType = resolvedConstructor.getType();
-						} else {
-							resolvedType = resolvedConstructor.getArgumentType(declaringInvokableParameterPosition);
-						}
-						break;
-					}
-				}
-			} else {
-				throw new ReflectionUIError();
-			}
+			resolvedType = ResolvedMembers.get(declaringMember.getDeclaringClass()).getResolvedType(declaringMember,
+					declaringInvokableParameterPosition);
 			if (resolvedType == null) {
 				throw new ReflectionUIError();
 			}
@@ -275,4 +323,116 @@ public class JavaTypeInfoSource implements ITypeInfoSource {
 				+ specificitiesIdentifier + "]";
 	}
 
+	/**
+	 * Generic resolution of the members of a class. The resolved members are
+	 * indexed by their Java member so that the resolved type of a field, method
+	 * or constructor (argument) is retrieved without rescanning the class
+	 * members. The instances are shared (see {@link #get(Class)}).
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected static class ResolvedMembers {
+
+		protected static final Map<Class<?>, ResolvedMembers> CACHE = MiscUtils
+				.newWeakKeysIdentityBasedCache((int) SystemProperties.getStandardCacheSize());
+
+		protected Map<Member, ResolvedField> resolvedFieldByMember = new HashMap<Member, ResolvedField>();
+		protected Map<Member, ResolvedMethod> resolvedMethodByMember = new HashMap<Member, ResolvedMethod>();
+		protected Map<Member, ResolvedConstructor> resolvedConstructorByMember = new HashMap<Member, ResolvedConstructor>();
+
+		protected ResolvedMembers(Class<?> javaClass) {
+			ResolvedTypeWithMembers resolvedTypeWithMembers = MEMBER_RESOLVER.resolve(TYPE_RESOLVER.resolve(javaClass),
+					null, null);
+			for (ResolvedField resolvedField : resolvedTypeWithMembers.getStaticFields()) {
+				resolvedFieldByMember.put(resolvedField.getRawMember(), resolvedField);
+			}
+			for (ResolvedField resolvedField : resolvedTypeWithMembers.getMemberFields()) {
+				resolvedFieldByMember.put(resolvedField.getRawMember(), resolvedField);
+			}
+			for (ResolvedMethod resolvedMethod : resolvedTypeWithMembers.getStaticMethods()) {
+				resolvedMethodByMember.put(resolvedMethod.getRawMember(), resolvedMethod);
+			}
+			for (ResolvedMethod resolvedMethod : resolvedTypeWithMembers.getMemberMethods()) {
+				resolvedMethodByMember.put(resolvedMethod.getRawMember(), resolvedMethod);
+			}
+			for (ResolvedConstructor resolvedConstructor : resolvedTypeWithMembers.getConstructors()) {
+				resolvedConstructorByMember.put(resolvedConstructor.getRawMember(), resolvedConstructor);
+			}
+		}
+
+		public static ResolvedMembers get(Class<?> javaClass) {
+			ResolvedMembers result = CACHE.get(javaClass);
+			if (result == null) {
+				result = new ResolvedMembers(javaClass);
+				CACHE.put(javaClass, result);
+			}
+			return result;
+		}
+
+		/**
+		 * @param member                     A field, method or constructor of the
+		 *                                   class.
+		 * @param invokableParameterPosition The position of the method or
+		 *                                   constructor parameter or -1 to get the
+		 *                                   method return type or the constructor
+		 *                                   declaring type.
+		 * @return the resolved type of the specified member or null if the member
+		 *         was not found.
+		 */
+		public ResolvedType getResolvedType(Member member, int invokableParameterPosition) {
+			if (member instanceof Field) {
+				ResolvedField resolvedField = resolvedFieldByMember.get(member);
+				if (resolvedField == null) {
+					return null;
+				}
+				return resolvedField.getType();
+			} else if (member instanceof Method) {
+				ResolvedMethod resolvedMethod = resolvedMethodByMember.get(member);
+				if (resolvedMethod == null) {
+					return null;
+				}
+				if (invokableParameterPosition == -1) {
+					return resolvedMethod.getType();
+				} else {
+					return resolvedMethod.getArgumentType(invokableParameterPosition);
+				}
+			} else if (member instanceof Constructor) {
+				ResolvedConstructor resolvedConstructor = resolvedConstructorByMember.get(member);
+				if (resolvedConstructor == null) {
+					return null;
+				}
+				if (invokableParameterPosition == -1) {
+					return resolvedConstructor.getType();
+				} else {
+					return resolvedConstructor.getArgumentType(invokableParameterPosition);
+				}
+			} else {
+				throw new ReflectionUIError();
+			}
+		}
+
+	}
+
+	/**
+	 * Type information construction task that remembers the thread running it.
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected static class ConstructionTask extends FutureTask<DefaultTypeInfo> {
+
+		protected Thread ownerThread;
+
+		public ConstructionTask(Thread ownerThread, Callable<DefaultTypeInfo> callable) {
+			super(callable);
+			this.ownerThread = ownerThread;
+		}
+
+		public Thread getOwnerThread() {
+			return ownerThread;
+		}
+
+	}
+
 }
@@ -5,6 +5,7 @@ package xy.reflect.ui.info.type.source;
 
 import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.info.type.factory.InfoProxyFactory;
+import xy.reflect.ui.info.type.iterable.IListTypeInfo;
 
 /**
  * Dynamic type information source that just provides the specified
@@ -37,6 +38,11 @@ public class PrecomputedTypeInfoSource implements ITypeInfoSource {
 				return PrecomputedTypeInfoSource.this.toString();
 			}
 
+			@Override
+			protected boolean canEditItemsInPlace(IListTypeInfo type) {
+				return canBaseEditItemsInPlace(type);
+			}
+
 		}.wrapTypeInfo(precomputedType);
 	}
 
@@ -3,6 +3,7 @@ package xy.reflect.ui.info.type.source;
 
 import xy.reflect.ui.info.type.ITypeInfo;
 import xy.reflect.ui.info.type.factory.InfoProxyFactory;
+import xy.reflect.ui.info.type.iterable.IListTypeInfo;
 
 /**
  * Dynamic type information source proxy class. The methods in this class should
@@ -36,6 +37,11 @@ public abstract class TypeInfoSourceProxy implements ITypeInfoSource {
 				return TypeInfoSourceProxy.this.getTypeInfoProxyFactoryIdentifier();
 			}
 
+			@Override
+			protected boolean canEditItemsInPlace(IListTypeInfo type) {
+				return canBaseEditItemsInPlace(type);
+			}
+
 		}.wrapTypeInfo(base.getTypeInfo());
 	}
 
@@ -36,6 +36,20 @@ public class FieldControlDataModification extends AbstractModification {
 		}
 	}
 
+	/**
+	 * @return the control data that is updated by this modification.
+	 */
+	public IFieldControlData getData() {
+		return data;
+	}
+
+	/**
+	 * @return the value that is set by this modification.
+	 */
+	public Object getNewValue() {
+		return newValue;
+	}
+
 	public static String getTitle(String fieldCaption) {
 		if ((fieldCaption == null) || (fieldCaption.length() == 0)) {
 			return null;
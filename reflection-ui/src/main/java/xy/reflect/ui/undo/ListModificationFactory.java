@@ -3,8 +3,6 @@
 
 package xy.reflect.ui.undo;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import xy.reflect.ui.info.type.iterable.item.ItemPosition;
@@ -82,10 +80,7 @@ public class ListModificationFactory {
 	 *         inserting the specified item at the specified zero-based position.
 	 */
 	public IModification add(int index, Object newItem) {
-		List<Object> tmpList = new ArrayList<Object>(Arrays.asList(anyItemPosition.retrieveContainingListRawValue()));
-		tmpList.add(index, newItem);
-		Object[] newListRawValue = tmpList.toArray();
-		return createListModification(newListRawValue);
+		return new ItemInsertion(anyItemPosition, index, newItem);
 	}
 
 	/**
@@ -108,10 +103,7 @@ public class ListModificationFactory {
 	 *         removing the item at the specified zero-based position.
 	 */
 	public IModification remove(int index) {
-		List<Object> tmpList = new ArrayList<Object>(Arrays.asList(anyItemPosition.retrieveContainingListRawValue()));
-		tmpList.remove(index);
-		Object[] newListRawValue = tmpList.toArray();
-		return createListModification(newListRawValue);
+		return new ItemRemoval(anyItemPosition, index);
 	}
 
 	/**
@@ -154,10 +146,7 @@ public class ListModificationFactory {
 	 *         given item.
 	 */
 	public IModification set(int index, Object newItem) {
-		List<Object> tmpList = new ArrayList<Object>(Arrays.asList(anyItemPosition.retrieveContainingListRawValue()));
-		tmpList.set(index, newItem);
-		Object[] newListRawValue = tmpList.toArray();
-		return createListModification(newListRawValue);
+		return new ItemReplacement(anyItemPosition, index, newItem);
 	}
 
 	/**
@@ -188,10 +177,7 @@ public class ListModificationFactory {
 	 *         specified number of positions.
 	 */
 	public IModification move(int index, int offset) {
-		List<Object> tmpList = new ArrayList<Object>(Arrays.asList(anyItemPosition.retrieveContainingListRawValue()));
-		tmpList.add(index + offset, tmpList.remove(index));
-		Object[] newListRawValue = tmpList.toArray();
-		return createListModification(newListRawValue);
+		return new ItemMove(anyItemPosition, index, offset);
 	}
 
 	/**
@@ -250,4 +236,130 @@ public class ListModificationFactory {
 
 	}
 
+	/**
+	 * Base class of modifications that update a single position of a list. Unlike
+	 * {@link ListModification}, they do not store the whole list content and they
+	 * are applied in place when the list type allows it (see
+	 * {@link ItemPosition#insertInContainingList(int, Object)}).
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected static abstract class AbstractItemModification implements IModification {
+
+		protected ItemPosition itemPosition;
+		protected int index;
+
+		public AbstractItemModification(ItemPosition itemPosition, int index) {
+			this.itemPosition = itemPosition;
+			this.index = index;
+		}
+
+		@Override
+		public String getTitle() {
+			return FieldControlDataModification.getTitle(itemPosition.getContainingListTitle());
+		}
+
+		@Override
+		public boolean isNull() {
+			return false;
+		}
+
+		@Override
+		public boolean isFake() {
+			return false;
+		}
+
+	}
+
+	/**
+	 * Modification that inserts an item in a list.
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected static class ItemInsertion extends AbstractItemModification {
+
+		protected Object item;
+
+		public ItemInsertion(ItemPosition itemPosition, int index, Object item) {
+			super(itemPosition, index);
+			this.item = item;
+		}
+
+		@Override
+		public IModification applyAndGetOpposite() {
+			itemPosition.insertInContainingList(index, item);
+			return new ItemRemoval(itemPosition, index);
+		}
+
+	}
+
+	/**
+	 * Modification that removes an item from a list.
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected static class ItemRemoval extends AbstractItemModification {
+
+		public ItemRemoval(ItemPosition itemPosition, int index) {
+			super(itemPosition, index);
+		}
+
+		@Override
+		public IModification applyAndGetOpposite() {
+			Object removedItem = itemPosition.removeFromContainingList(index);
+			return new ItemInsertion(itemPosition, index, removedItem);
+		}
+
+	}
+
+	/**
+	 * Modification that replaces an item of a list.
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected static class ItemReplacement extends AbstractItemModification {
+
+		protected Object item;
+
+		public ItemReplacement(ItemPosition itemPosition, int index, Object item) {
+			super(itemPosition, index);
+			this.item = item;
+		}
+
+		@Override
+		public IModification applyAndGetOpposite() {
+			Object replacedItem = itemPosition.setInContainingList(index, item);
+			return new ItemReplacement(itemPosition, index, replacedItem);
+		}
+
+	}
+
+	/**
+	 * Modification that shifts an item of a list.
+	 * 
+	 * @author olitank
+	 *
+	 */
+	protected static class ItemMove extends AbstractItemModification {
+
+		protected int offset;
+
+		public ItemMove(ItemPosition itemPosition, int index, int offset) {
+			super(itemPosition, index);
+			this.offset = offset;
+		}
+
+		@Override
+		public IModification applyAndGetOpposite() {
+			Object item = itemPosition.removeFromContainingList(index);
+			itemPosition.insertInContainingList(index + offset, item);
+			return new ItemMove(itemPosition, index + offset, -offset);
+		}
+
+	}
+
 }
@@ -0,0 +1,385 @@
+package xy.reflect.ui.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ForwardingConcurrentMap;
+
+/**
+ * Central registry of the caches used to optimize the reflection process. The
+ * caches created through this class are size-bounded (least recently used
+ * entries are evicted first) and record their hit/miss/eviction statistics that
+ * can be retrieved with {@link #getStatistics()}.
+ *
+ * The caches that require a periodic clean up (because of their weakly
+ * referenced keys or values) are all maintained by a single shared scheduled
+ * thread. This thread is started when the first of these caches is registered
+ * and stopped when no more cache remains.
+ *
+ * Note that the registered caches are weakly referenced and thus unregistered
+ * automatically when they are garbage collected (on the next registration or
+ * maintenance tick).
+ *
+ * @author olitank
+ *
+ */
+public class CacheRegistry {
+
+	public static final long DEFAULT_CLEAN_UP_PERIOD_MILLISECONDS = 5000;
+	public static final String MAINTENANCE_THREAD_NAME = "CacheRegistryMaintenance";
+
+	protected static final long MAINTENANCE_TICK_MILLISECONDS = 250;
+	protected static final List<RegisteredCache> REGISTERED_CACHES = new ArrayList<RegisteredCache>();
+	protected static final ReferenceQueue<Cache<?, ?>> COLLECTED_CACHES = new ReferenceQueue<Cache<?, ?>>();
+	protected static final AtomicLong MAINTENANCE_TIME_NANOSECONDS = new AtomicLong();
+	protected static final AtomicLong MAINTENANCE_CLEAN_UP_COUNT = new AtomicLong();
+	protected static ScheduledExecutorService maintenanceExecutor;
+
+	private CacheRegistry() {
+	}
+
+	/**
+	 * @return the maximum size of the standard caches (see
+	 *         {@link SystemProperties#STANDARD_CACHE_SIZE}).
+	 */
+	public static int getStandardMaximumSize() {
+		return (int) SystemProperties.getStandardCacheSize();
+	}
+
+	/**
+	 * Creates and registers a map backed by a cache that will hold at most
+	 * {@link #getStandardMaximumSize()} entries.
+	 *
+	 * @param name The name of the cache (used to group statistics).
+	 * @return the new map.
+	 */
+	public static <K, V> CacheMap<K, V> newStandardMap(String name) {
+		return newMap(name, false, false, getStandardMaximumSize(), -1);
+	}
+
+	/**
+	 * Creates and registers a map backed by a new cache. Note that the map holds
+	 * the cache, allowing the cache to be unregistered only when the map is
+	 * garbage collected.
+	 *
+	 * @param name                      The name of the cache (used to group
+	 *                                  statistics).
+	 * @param weakKeys                  Whether the keys are weakly referenced (and
+	 *                                  then compared by identity).
+	 * @param weakValues                Whether the values are weakly referenced.
+	 * @param maxSize                   The maximum number of entries or -1 for an
+	 *                                  unbounded cache.
+	 * @param cleanUpPeriodMilliseconds The period of the clean up performed by the
+	 *                                  maintenance thread or -1 to disable the
+	 *                                  periodic clean up.
+	 * @return the new map.
+	 */
+	public static <K, V> CacheMap<K, V> newMap(String name, boolean weakKeys, boolean weakValues, long maxSize,
+			long cleanUpPeriodMilliseconds) {
+		return new CacheMap<K, V>(
+				CacheRegistry.<K, V>newCache(name, weakKeys, weakValues, maxSize, cleanUpPeriodMilliseconds));
+	}
+
+	/**
+	 * Creates and registers a new cache. The weak keys or values caches are
+	 * periodically cleaned up (see {@link #DEFAULT_CLEAN_UP_PERIOD_MILLISECONDS}).
+	 *
+	 * @param name       The name of the cache (used to group statistics).
+	 * @param weakKeys   Whether the keys are weakly referenced (and then compared
+	 *                   by identity).
+	 * @param weakValues Whether the values are weakly referenced.
+	 * @param maxSize    The maximum number of entries or -1 for an unbounded
+	 *                   cache.
+	 * @return the new cache.
+	 */
+	public static <K, V> Cache<K, V> newCache(String name, boolean weakKeys, boolean weakValues, long maxSize) {
+		return newCache(name, weakKeys, weakValues, maxSize,
+				(weakKeys || weakValues) ? DEFAULT_CLEAN_UP_PERIOD_MILLISECONDS : -1);
+	}
+
+	/**
+	 * Creates and registers a new cache.
+	 *
+	 * @param name                      The name of the cache (used to group
+	 *                                  statistics).
+	 * @param weakKeys                  Whether the keys are weakly referenced (and
+	 *                                  then compared by identity).
+	 * @param weakValues                Whether the values are weakly referenced.
+	 * @param maxSize                   The maximum number of entries or -1 for an
+	 *                                  unbounded cache.
+	 * @param cleanUpPeriodMilliseconds The period of the clean up performed by the
+	 *                                  maintenance thread or -1 to disable the
+	 *                                  periodic clean up.
+	 * @return the new cache.
+	 */
+	public static <K, V> Cache<K, V> newCache(String name, boolean weakKeys, boolean weakValues, long maxSize,
+			long cleanUpPeriodMilliseconds) {
+		CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+		if (maxSize != -1) {
+			builder = builder.maximumSize(maxSize);
+		}
+		if (weakKeys) {
+			builder = builder.weakKeys();
+		}
+		if (weakValues) {
+			builder = builder.weakValues();
+		}
+		Cache<K, V> result = builder.<K, V>build();
+		register(name, result, cleanUpPeriodMilliseconds);
+		return result;
+	}
+
+	/**
+	 * Registers the given cache so that its statistics are reported by
+	 * {@link #getStatistics()} and so that it is periodically cleaned up by the
+	 * maintenance thread if required.
+	 *
+	 * @param name                      The name of the cache.
+	 * @param cache                     The cache.
+	 * @param cleanUpPeriodMilliseconds The period of the clean up or -1 to
+	 *                                  disable the periodic clean up.
+	 */
+	public static void register(String name, Cache<?, ?> cache, long cleanUpPeriodMilliseconds) {
+		synchronized (REGISTERED_CACHES) {
+			unregisterCollectedCaches();
+			REGISTERED_CACHES.add(new RegisteredCache(name, cache, cleanUpPeriodMilliseconds));
+			if (cleanUpPeriodMilliseconds != -1) {
+				if (maintenanceExecutor == null) {
+					startMaintenance();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the registered caches that were garbage collected, if the
+	 * reference queue reports any. Must be called while holding the
+	 * {@link #REGISTERED_CACHES} lock.
+	 */
+	protected static void unregisterCollectedCaches() {
+		if (COLLECTED_CACHES.poll() == null) {
+			return;
+		}
+		while (COLLECTED_CACHES.poll() != null) {
+		}
+		for (Iterator<RegisteredCache> it = REGISTERED_CACHES.iterator(); it.hasNext();) {
+			if (it.next().getCache() == null) {
+				it.remove();
+			}
+		}
+	}
+
+	protected static void startMaintenance() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread result = new Thread(r);
+				result.setName(MAINTENANCE_THREAD_NAME);
+				result.setDaemon(true);
+				return result;
+			}
+		});
+		executor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				performMaintenance();
+			}
+		}, MAINTENANCE_TICK_MILLISECONDS, MAINTENANCE_TICK_MILLISECONDS, TimeUnit.MILLISECONDS);
+		maintenanceExecutor = executor;
+	}
+
+	protected static void performMaintenance() {
+		long startTime = System.nanoTime();
+		long now = System.currentTimeMillis();
+		List<Cache<?, ?>> cachesToCleanUp = new ArrayList<Cache<?, ?>>();
+		synchronized (REGISTERED_CACHES) {
+			unregisterCollectedCaches();
+			boolean maintenanceRequired = false;
+			for (Iterator<RegisteredCache> it = REGISTERED_CACHES.iterator(); it.hasNext();) {
+				RegisteredCache registeredCache = it.next();
+				Cache<?, ?> cache = registeredCache.getCache();
+				if (cache == null) {
+					it.remove();
+					continue;
+				}
+				if (registeredCache.getCleanUpPeriodMilliseconds() == -1) {
+					continue;
+				}
+				maintenanceRequired = true;
+				if (now >= registeredCache.getNextCleanUpTime()) {
+					cachesToCleanUp.add(cache);
+					registeredCache.setNextCleanUpTime(now + registeredCache.getCleanUpPeriodMilliseconds());
+				}
+			}
+			if (!maintenanceRequired) {
+				maintenanceExecutor.shutdown();
+				maintenanceExecutor = null;
+			}
+		}
+		for (Cache<?, ?> cache : cachesToCleanUp) {
+			cache.cleanUp();
+		}
+		MAINTENANCE_CLEAN_UP_COUNT.addAndGet(cachesToCleanUp.size());
+		MAINTENANCE_TIME_NANOSECONDS.addAndGet(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * @return whether the maintenance thread is currently running.
+	 */
+	public static boolean isMaintenanceActive() {
+		synchronized (REGISTERED_CACHES) {
+			return maintenanceExecutor != null;
+		}
+	}
+
+	/**
+	 * @return the total time (in nanoseconds) spent by the maintenance thread to
+	 *         clean up the registered caches.
+	 */
+	public static long getMaintenanceTimeNanoseconds() {
+		return MAINTENANCE_TIME_NANOSECONDS.get();
+	}
+
+	/**
+	 * @return the total number of cache clean ups performed by the maintenance
+	 *         thread.
+	 */
+	public static long getMaintenanceCleanUpCount() {
+		return MAINTENANCE_CLEAN_UP_COUNT.get();
+	}
+
+	/**
+	 * @return the currently registered caches (that are not garbage collected).
+	 */
+	public static List<Cache<?, ?>> getRegisteredCaches() {
+		List<Cache<?, ?>> result = new ArrayList<Cache<?, ?>>();
+		synchronized (REGISTERED_CACHES) {
+			for (Iterator<RegisteredCache> it = REGISTERED_CACHES.iterator(); it.hasNext();) {
+				Cache<?, ?> cache = it.next().getCache();
+				if (cache == null) {
+					it.remove();
+					continue;
+				}
+				result.add(cache);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the statistics of the registered caches grouped (summed) by cache
+	 *         name.
+	 */
+	public static Map<String, CacheStats> getStatistics() {
+		Map<String, CacheStats> result = new TreeMap<String, CacheStats>();
+		synchronized (REGISTERED_CACHES) {
+			for (Iterator<RegisteredCache> it = REGISTERED_CACHES.iterator(); it.hasNext();) {
+				RegisteredCache registeredCache = it.next();
+				Cache<?, ?> cache = registeredCache.getCache();
+				if (cache == null) {
+					it.remove();
+					continue;
+				}
+				CacheStats stats = cache.stats();
+				CacheStats previousStats = result.get(registeredCache.getName());
+				if (previousStats != null) {
+					stats = previousStats.plus(stats);
+				}
+				result.put(registeredCache.getName(), stats);
+			}
+		}
+		return result;
+	}
+
+	protected static class RegisteredCache {
+
+		protected String name;
+		protected WeakReference<Cache<?, ?>> cacheReference;
+		protected long cleanUpPeriodMilliseconds;
+		protected long nextCleanUpTime;
+
+		public RegisteredCache(String name, Cache<?, ?> cache, long cleanUpPeriodMilliseconds) {
+			this.name = name;
+			this.cacheReference = new WeakReference<Cache<?, ?>>(cache, COLLECTED_CACHES);
+			this.cleanUpPeriodMilliseconds = cleanUpPeriodMilliseconds;
+			this.nextCleanUpTime = System.currentTimeMillis() + cleanUpPeriodMilliseconds;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Cache<?, ?> getCache() {
+			return cacheReference.get();
+		}
+
+		public long getCleanUpPeriodMilliseconds() {
+			return cleanUpPeriodMilliseconds;
+		}
+
+		public long getNextCleanUpTime() {
+			return nextCleanUpTime;
+		}
+
+		public void setNextCleanUpTime(long nextCleanUpTime) {
+			this.nextCleanUpTime = nextCleanUpTime;
+		}
+
+	}
+
+	/**
+	 * {@link ConcurrentMap} view of a registered cache. It holds the cache and
+	 * then keeps it registered as long as the map is referenced. Lookups are
+	 * performed through the cache in order to be counted in its statistics.
+	 *
+	 * @author olitank
+	 *
+	 * @param <K> The key type.
+	 * @param <V> The value type.
+	 */
+	public static class CacheMap<K, V> extends ForwardingConcurrentMap<K, V> {
+
+		protected Cache<K, V> cache;
+		protected ConcurrentMap<K, V> delegate;
+
+		public CacheMap(Cache<K, V> cache) {
+			this.cache = cache;
+			this.delegate = cache.asMap();
+		}
+
+		public Cache<K, V> getCache() {
+			return cache;
+		}
+
+		@Override
+		protected ConcurrentMap<K, V> delegate() {
+			return delegate;
+		}
+
+		@Override
+		public V get(Object key) {
+			return cache.getIfPresent(key);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return cache.getIfPresent(key) != null;
+		}
+
+	}
+
+}
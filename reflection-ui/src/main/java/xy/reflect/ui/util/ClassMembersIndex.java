@@ -0,0 +1,166 @@
+package xy.reflect.ui.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import xy.reflect.ui.info.field.GetterFieldInfo;
+import xy.reflect.ui.info.field.PublicFieldInfo;
+
+/**
+ * Indexes of the public members of a Java class, built by a single pass over
+ * {@link Class#getFields()} and {@link Class#getMethods()}. It allows to resolve
+ * getters, setters and duplicate method signatures without rescanning the class
+ * members.
+ *
+ * @author olitank
+ *
+ */
+public class ClassMembersIndex {
+
+	protected static final Map<Class<?>, ClassMembersIndex> CACHE = MiscUtils
+			.newWeakKeysIdentityBasedCache((int) SystemProperties.getStandardCacheSize());
+	protected static final ClassMembersIndex OBJECT_CLASS_INDEX = new ClassMembersIndex(Object.class);
+
+	protected Class<?> javaClass;
+	protected Set<String> compatiblePublicFieldNames = new HashSet<String>();
+	protected List<Method> methods = new ArrayList<Method>();
+	protected Map<String, List<Method>> methodsByName = new HashMap<String, List<Method>>();
+	protected Map<String, List<Method>> methodsBySignature = new HashMap<String, List<Method>>();
+	protected Map<Method, String> signatureByMethod = new HashMap<Method, String>();
+	protected Set<Method> getterSetterMethods;
+
+	protected ClassMembersIndex(Class<?> javaClass) {
+		this.javaClass = javaClass;
+		for (Field field : javaClass.getFields()) {
+			if (PublicFieldInfo.isCompatibleWith(field)) {
+				compatiblePublicFieldNames.add(field.getName());
+			}
+		}
+		for (Method method : javaClass.getMethods()) {
+			methods.add(method);
+			add(methodsByName, method.getName(), method);
+			String signature = (String) ReflectionUIUtils.buildMethodSignature(method);
+			signatureByMethod.put(method, signature);
+			add(methodsBySignature, signature, method);
+		}
+	}
+
+	/**
+	 * @param javaClass The Java class.
+	 * @return the (cached) index of the public members of the given class.
+	 */
+	public static ClassMembersIndex get(Class<?> javaClass) {
+		if (javaClass == Object.class) {
+			return OBJECT_CLASS_INDEX;
+		}
+		ClassMembersIndex result = CACHE.get(javaClass);
+		if (result == null) {
+			result = new ClassMembersIndex(javaClass);
+			CACHE.put(javaClass, result);
+		}
+		return result;
+	}
+
+	/**
+	 * @param method A Java method.
+	 * @return whether the given method overrides one of the {@link Object} class
+	 *         public methods.
+	 */
+	public static boolean overridesObjectMethod(Method method) {
+		for (Method commonMethod : OBJECT_CLASS_INDEX.getMethodsByName(method.getName())) {
+			if (ClassUtils.isOverridenBy(commonMethod, method)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	protected static void add(Map<String, List<Method>> methodsByKey, String key, Method method) {
+		List<Method> list = methodsByKey.get(key);
+		if (list == null) {
+			list = new ArrayList<Method>(1);
+			methodsByKey.put(key, list);
+		}
+		list.add(method);
+	}
+
+	public Class<?> getJavaClass() {
+		return javaClass;
+	}
+
+	public boolean hasCompatiblePublicField(String fieldName) {
+		return compatiblePublicFieldNames.contains(fieldName);
+	}
+
+	/**
+	 * @return the public methods of the class in the {@link Class#getMethods()}
+	 *         order.
+	 */
+	public List<Method> getMethods() {
+		return Collections.unmodifiableList(methods);
+	}
+
+	public List<Method> getMethodsByName(String methodName) {
+		List<Method> result = methodsByName.get(methodName);
+		if (result == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	public List<Method> getMethodsBySignature(String signature) {
+		List<Method> result = methodsBySignature.get(signature);
+		if (result == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * @param method A Java method.
+	 * @return the signature of the given method (see
+	 *         {@link ReflectionUIUtils#buildMethodSignature(Method)}), reusing
+	 *         the signature computed during the indexing when possible.
+	 */
+	public String getSignature(Method method) {
+		String result = signatureByMethod.get(method);
+		if (result == null) {
+			result = (String) ReflectionUIUtils.buildMethodSignature(method);
+		}
+		return result;
+	}
+
+	/**
+	 * @param method A Java method.
+	 * @return whether the given method is the setter of one of the getter methods
+	 *         (see {@link GetterFieldInfo#isCompatibleWith(Method, Class)}) of the
+	 *         class.
+	 */
+	public synchronized boolean isGetterSetter(Method method) {
+		if (getterSetterMethods == null) {
+			getterSetterMethods = new HashSet<Method>();
+			for (Method getter : methods) {
+				if (GetterFieldInfo.isCompatibleWith(getter, javaClass)) {
+					Method setter = GetterFieldInfo.getValidSetterMethod(getter, javaClass);
+					if (setter != null) {
+						getterSetterMethods.add(setter);
+					}
+				}
+			}
+		}
+		return getterSetterMethods.contains(method);
+	}
+
+	@Override
+	public String toString() {
+		return "ClassMembersIndex [javaClass=" + javaClass + "]";
+	}
+
+}
@@ -34,6 +34,7 @@ public class ClassUtils {
 			for (Class<?> c : PRIMITIVE_CLASSES) {
 				put(c.getName(), c);
 			}
+			put(void.class.getName(), void.class);
 		}
 	};
 
@@ -46,7 +47,8 @@ public class ClassUtils {
 	protected static double DEFAULT_DOUBLE;
 	protected static char DEFAULT_CHAR;
 
-	protected static final Map<String, Class<?>> CLASS_BY_NAME = new HashMap<String, Class<?>>();
+	protected static final Map<String, Class<?>> CLASS_BY_NAME = CacheRegistry
+			.newStandardMap(ClassUtils.class.getName() + ".CLASS_BY_NAME");
 	protected static final Class<?> CLASS_NOT_FOUND = (new Object() {
 		@Override
 		public String toString() {
@@ -54,13 +56,11 @@ public class ClassUtils {
 		}
 	}).getClass();
 
-	static {
-		for (Class<?> c : new Class[] { void.class, boolean.class, byte.class, char.class, short.class, int.class,
-				float.class, double.class, long.class })
-			CLASS_BY_NAME.put(c.getName(), c);
-	}
-
 	public static Class<?> getCachedClassforName(String name) throws ClassNotFoundException {
+		Class<?> primitiveClass = PRIMITIVE_CLASS_BY_NAME.get(name);
+		if (primitiveClass != null) {
+			return primitiveClass;
+		}
 		synchronized (CLASS_BY_NAME) {
 			Class<?> c = CLASS_BY_NAME.get(name);
 			if (c == null) {
@@ -0,0 +1,171 @@
+package xy.reflect.ui.util;
+
+import java.util.Arrays;
+
+/**
+ * Compact map that associates values (possibly null) with primitive integer
+ * keys. It uses open addressing so that lookups neither box the keys nor create
+ * entry objects. Entries cannot be removed one by one but the whole map can be
+ * cleared without allocating memory.
+ *
+ * Values can be enumerated by visiting the slots from 0 to
+ * {@link #getSlotCount()} (excluded) with {@link #getSlotValue(int)}, which
+ * returns null for empty slots.
+ *
+ * Note that this class is not thread-safe.
+ *
+ * @author olitank
+ *
+ * @param <V> The type of values.
+ */
+public class IntKeyMap<V> {
+
+	protected static final int INITIAL_SLOT_COUNT = 8;
+
+	protected int[] keys;
+	protected Object[] values;
+	protected boolean[] used;
+	protected int size;
+
+	/**
+	 * @return the number of entries.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param key The key.
+	 * @return whether an entry (possibly with a null value) is associated with the
+	 *         given key.
+	 */
+	public boolean containsKey(int key) {
+		if (size == 0) {
+			return false;
+		}
+		return used[findSlot(key)];
+	}
+
+	/**
+	 * @param key The key.
+	 * @return the value associated with the given key or null if there is no such
+	 *         value.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int key) {
+		if (size == 0) {
+			return null;
+		}
+		int slot = findSlot(key);
+		if (!used[slot]) {
+			return null;
+		}
+		return (V) values[slot];
+	}
+
+	/**
+	 * Associates the given value with the given key.
+	 *
+	 * @param key   The key.
+	 * @param value The value (may be null).
+	 */
+	public void put(int key, V value) {
+		if (keys == null) {
+			allocate(INITIAL_SLOT_COUNT);
+		} else if ((size + 1) * 2 > keys.length) {
+			grow();
+		}
+		int slot = findSlot(key);
+		if (!used[slot]) {
+			used[slot] = true;
+			keys[slot] = key;
+			size++;
+		}
+		values[slot] = value;
+	}
+
+	/**
+	 * Removes all the entries without releasing the allocated slots.
+	 */
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		Arrays.fill(used, false);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	/**
+	 * @return the number of slots that can be visited with
+	 *         {@link #getSlotValue(int)}.
+	 */
+	public int getSlotCount() {
+		if ((keys == null) || (size == 0)) {
+			return 0;
+		}
+		return keys.length;
+	}
+
+	/**
+	 * @param slot The slot number (from 0 to {@link #getSlotCount()} excluded).
+	 * @return the value stored in the given slot or null if the slot is empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public V getSlotValue(int slot) {
+		return (V) values[slot];
+	}
+
+	/**
+	 * @param slot The slot number (from 0 to {@link #getSlotCount()} excluded).
+	 * @return the key stored in the given slot. Meaningless if the slot is empty.
+	 */
+	public int getSlotKey(int slot) {
+		return keys[slot];
+	}
+
+	protected int findSlot(int key) {
+		int mask = keys.length - 1;
+		int slot = (key * 0x9E3779B9) & mask;
+		while (used[slot] && (keys[slot] != key)) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	protected void allocate(int slotCount) {
+		keys = new int[slotCount];
+		values = new Object[slotCount];
+		used = new boolean[slotCount];
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void grow() {
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(oldKeys.length * 2);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldUsed[i]) {
+				put(oldKeys[i], (V) oldValues[i]);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("{");
+		for (int i = 0; i < getSlotCount(); i++) {
+			if (used[i]) {
+				if (result.length() > 1) {
+					result.append(", ");
+				}
+				result.append(keys[i]).append("=").append(values[i]);
+			}
+		}
+		result.append("}");
+		return result.toString();
+	}
+
+}
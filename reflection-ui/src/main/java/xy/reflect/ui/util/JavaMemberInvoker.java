@@ -0,0 +1,227 @@
+package xy.reflect.ui.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Allows to invoke a Java method or constructor, or to get/set a Java field
+ * value, through a {@link MethodHandle} bound once to the member. The standard
+ * Java reflection is used as a fallback when the handle cannot be created (access
+ * denied) or when the arguments would require conversions that only the
+ * reflection supports (e.g.: primitive widening).
+ *
+ * Errors are reported the same way for both invocation modes: the exceptions
+ * thrown by the member are wrapped in {@link ReflectionUIError} instances.
+ *
+ * @author olitank
+ *
+ */
+public abstract class JavaMemberInvoker {
+
+	public static final Object[] NO_ARGUMENTS = new Object[0];
+
+	protected static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class,
+			Object[].class);
+
+	protected Class<?> receiverClass;
+	protected Class<?>[] argumentClasses;
+	protected boolean[] primitiveParameters;
+	protected MethodHandle handle;
+
+	protected JavaMemberInvoker(Class<?> receiverClass, Class<?>[] parameterTypes) {
+		this.receiverClass = receiverClass;
+		this.argumentClasses = new Class<?>[parameterTypes.length];
+		this.primitiveParameters = new boolean[parameterTypes.length];
+		for (int i = 0; i < parameterTypes.length; i++) {
+			primitiveParameters[i] = parameterTypes[i].isPrimitive();
+			argumentClasses[i] = primitiveParameters[i] ? ClassUtils.primitiveToWrapperClass(parameterTypes[i])
+					: parameterTypes[i];
+		}
+	}
+
+	/**
+	 * @param object The receiver object (ignored for static members and
+	 *               constructors).
+	 * @param args   The arguments.
+	 * @return the result of the invocation (null for void methods and setters).
+	 */
+	public Object invoke(Object object, Object[] args) {
+		if ((handle != null) && isDirectlyInvocable(object, args)) {
+			try {
+				return (Object) handle.invokeExact(object, args);
+			} catch (Throwable t) {
+				throw new ReflectionUIError(t);
+			}
+		}
+		return invokeThroughReflection(object, args);
+	}
+
+	protected abstract Object invokeThroughReflection(Object object, Object[] args);
+
+	protected boolean isDirectlyInvocable(Object object, Object[] args) {
+		if (receiverClass != null) {
+			if (!receiverClass.isInstance(object)) {
+				return false;
+			}
+		}
+		if (args.length != argumentClasses.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			Object arg = args[i];
+			if (arg == null) {
+				if (primitiveParameters[i]) {
+					return false;
+				}
+			} else if (!argumentClasses[i].isInstance(arg)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Converts the given method handle to the (Object receiver, Object[]
+	 * arguments)Object type.
+	 */
+	protected static MethodHandle toInvokerHandle(MethodHandle handle, boolean receiverExpected, int argumentCount) {
+		handle = handle.asType(handle.type().generic());
+		if (!receiverExpected) {
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+		}
+		handle = handle.asSpreader(Object[].class, argumentCount);
+		return handle.asType(INVOKER_TYPE);
+	}
+
+	public static JavaMemberInvoker forMethod(final Method javaMethod) {
+		final boolean staticMethod = Modifier.isStatic(javaMethod.getModifiers());
+		JavaMemberInvoker result = new JavaMemberInvoker(staticMethod ? null : javaMethod.getDeclaringClass(),
+				javaMethod.getParameterTypes()) {
+
+			@Override
+			protected Object invokeThroughReflection(Object object, Object[] args) {
+				try {
+					return javaMethod.invoke(object, args);
+				} catch (IllegalAccessException e) {
+					throw new ReflectionUIError(e);
+				} catch (IllegalArgumentException e) {
+					throw new ReflectionUIError(e);
+				} catch (InvocationTargetException e) {
+					throw new ReflectionUIError(e.getTargetException());
+				}
+			}
+
+			@Override
+			public String toString() {
+				return "JavaMemberInvoker [method=" + javaMethod + "]";
+			}
+		};
+		try {
+			result.handle = toInvokerHandle(MethodHandles.lookup().unreflect(javaMethod), !staticMethod,
+					javaMethod.getParameterTypes().length);
+		} catch (IllegalAccessException e) {
+			result.handle = null;
+		}
+		return result;
+	}
+
+	public static JavaMemberInvoker forConstructor(final Constructor<?> javaConstructor) {
+		JavaMemberInvoker result = new JavaMemberInvoker(null, javaConstructor.getParameterTypes()) {
+
+			@Override
+			protected Object invokeThroughReflection(Object ignore, Object[] args) {
+				try {
+					return javaConstructor.newInstance(args);
+				} catch (IllegalAccessException e) {
+					throw new ReflectionUIError(e);
+				} catch (IllegalArgumentException e) {
+					throw new ReflectionUIError(e);
+				} catch (InvocationTargetException e) {
+					throw new ReflectionUIError(e.getTargetException());
+				} catch (InstantiationException e) {
+					throw new ReflectionUIError(e);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return "JavaMemberInvoker [constructor=" + javaConstructor + "]";
+			}
+		};
+		if (!Modifier.isAbstract(javaConstructor.getDeclaringClass().getModifiers())) {
+			try {
+				result.handle = toInvokerHandle(MethodHandles.lookup().unreflectConstructor(javaConstructor), false,
+						javaConstructor.getParameterTypes().length);
+			} catch (IllegalAccessException e) {
+				result.handle = null;
+			}
+		}
+		return result;
+	}
+
+	public static JavaMemberInvoker forFieldGetter(final Field javaField) {
+		final boolean staticField = Modifier.isStatic(javaField.getModifiers());
+		JavaMemberInvoker result = new JavaMemberInvoker(staticField ? null : javaField.getDeclaringClass(),
+				new Class<?>[0]) {
+
+			@Override
+			protected Object invokeThroughReflection(Object object, Object[] ignore) {
+				try {
+					return javaField.get(object);
+				} catch (IllegalArgumentException e) {
+					throw new ReflectionUIError(e);
+				} catch (IllegalAccessException e) {
+					throw new ReflectionUIError(e);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return "JavaMemberInvoker [fieldGetter=" + javaField + "]";
+			}
+		};
+		try {
+			result.handle = toInvokerHandle(MethodHandles.lookup().unreflectGetter(javaField), !staticField, 0);
+		} catch (IllegalAccessException e) {
+			result.handle = null;
+		}
+		return result;
+	}
+
+	public static JavaMemberInvoker forFieldSetter(final Field javaField) {
+		final boolean staticField = Modifier.isStatic(javaField.getModifiers());
+		JavaMemberInvoker result = new JavaMemberInvoker(staticField ? null : javaField.getDeclaringClass(),
+				new Class<?>[] { javaField.getType() }) {
+
+			@Override
+			protected Object invokeThroughReflection(Object object, Object[] args) {
+				try {
+					javaField.set(object, args[0]);
+					return null;
+				} catch (IllegalArgumentException e) {
+					throw new ReflectionUIError(e);
+				} catch (IllegalAccessException e) {
+					throw new ReflectionUIError(e);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return "JavaMemberInvoker [fieldSetter=" + javaField + "]";
+			}
+		};
+		try {
+			result.handle = toInvokerHandle(MethodHandles.lookup().unreflectSetter(javaField), !staticField, 1);
+		} catch (IllegalAccessException e) {
+			result.handle = null;
+		}
+		return result;
+	}
+
+}
@@ -9,8 +9,6 @@ import java.awt.GraphicsEnvironment;
 import java.awt.Rectangle;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
-import java.lang.ref.WeakReference;
-import java.lang.reflect.Method;
 import java.rmi.server.UID;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -21,15 +19,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-
 import xy.reflect.ui.control.swing.util.SwingRendererUtils;
 
 /**
@@ -283,6 +279,28 @@ public class MiscUtils {
 		return result;
 	}
 
+	/**
+	 * @param threadName  The name of the executor threads.
+	 * @param threadCount The maximum number of threads.
+	 * @return an executor service that executes the submitted tasks in their
+	 *         submission order with at most the given number of threads. The
+	 *         tasks that cannot be executed immediately are queued.
+	 */
+	public static ExecutorService newBoundedExecutor(final String threadName, int threadCount) {
+		ThreadPoolExecutor result = new ThreadPoolExecutor(threadCount, threadCount, 60000, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread result = new Thread(r);
+						result.setName(threadName);
+						result.setDaemon(true);
+						return result;
+					}
+				});
+		result.allowCoreThreadTimeOut(true);
+		return result;
+	}
+
 	public static <K, V> Map<K, V> newWeakKeysEqualityBasedMap() {
 		return new WeakHashMap<K, V>();
 	}
@@ -299,49 +317,23 @@ public class MiscUtils {
 		return newAutoCleanUpCache(true, false, maxSize, 5000, "WeakKeysIdentityBasedCacheCleaner");
 	}
 
+	/**
+	 * Creates a cache that is periodically cleaned up by the shared
+	 * {@link CacheRegistry} maintenance thread.
+	 * 
+	 * @param weakKeys                  Whether the keys are weakly referenced (and
+	 *                                  then compared by identity).
+	 * @param weakValues                Whether the values are weakly referenced.
+	 * @param maxSize                   The maximum number of entries or -1 for an
+	 *                                  unbounded cache.
+	 * @param cleanUpPeriodMilliseconds The clean up period.
+	 * @param cacheName                 The name under which the cache is
+	 *                                  registered.
+	 * @return the map view of the new cache.
+	 */
 	public static <K, V> Map<K, V> newAutoCleanUpCache(boolean weakKeys, boolean weakValues, int maxSize,
-			final long cleanUpPeriodMilliseconds, String cleanUpThreadNamePrefix) {
-		CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
-		if (maxSize != -1) {
-			builder = builder.maximumSize(maxSize);
-		}
-		if (weakKeys) {
-			builder = builder.weakKeys();
-		}
-		if (weakValues) {
-			builder = builder.weakValues();
-		}
-		Cache<K, V> cache = builder.<K, V>build();
-		Map<K, V> map = cache.asMap();
-		final WeakReference<Map<K, V>> mapWeakRef = new WeakReference<Map<K, V>>(map);
-		new Thread(cleanUpThreadNamePrefix + " [cache=" + cache + ", maxSize=" + maxSize + "]") {
-			{
-				setDaemon(true);
-			}
-
-			@Override
-			public void run() {
-				while (true) {
-					try {
-						Thread.sleep(cleanUpPeriodMilliseconds);
-					} catch (InterruptedException e) {
-						throw new ReflectionUIError(e);
-					}
-					Map<K, V> map = mapWeakRef.get();
-					if (map == null) {
-						break;
-					}
-					try {
-						Method cleanUpMethod = map.getClass().getMethod("cleanUp");
-						cleanUpMethod.setAccessible(true);
-						cleanUpMethod.invoke(map);
-					} catch (Exception e) {
-						throw new ReflectionUIError(e);
-					}
-				}
-			}
-		}.start();
-		return map;
+			long cleanUpPeriodMilliseconds, String cacheName) {
+		return CacheRegistry.newMap(cacheName, weakKeys, weakValues, maxSize, cleanUpPeriodMilliseconds);
 	}
 
 	public static boolean isHTMLText(String text) {
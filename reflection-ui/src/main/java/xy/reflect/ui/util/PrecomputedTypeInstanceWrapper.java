@@ -323,6 +323,26 @@ public class PrecomputedTypeInstanceWrapper implements Comparable<PrecomputedTyp
 			super.replaceContent(type, ((PrecomputedTypeInstanceWrapper) listValue).unwrap(), array);
 		}
 
+		@Override
+		protected void insertItem(IListTypeInfo type, Object listValue, int index, Object item) {
+			super.insertItem(type, ((PrecomputedTypeInstanceWrapper) listValue).unwrap(), index, item);
+		}
+
+		@Override
+		protected Object removeItem(IListTypeInfo type, Object listValue, int index) {
+			return super.removeItem(type, ((PrecomputedTypeInstanceWrapper) listValue).unwrap(), index);
+		}
+
+		@Override
+		protected Object setItem(IListTypeInfo type, Object listValue, int index, Object item) {
+			return super.setItem(type, ((PrecomputedTypeInstanceWrapper) listValue).unwrap(), index, item);
+		}
+
+		@Override
+		protected boolean canEditItemsInPlace(IListTypeInfo type) {
+			return canBaseEditItemsInPlace(type);
+		}
+
 		@Override
 		protected Object fromArray(IListTypeInfo type, Object[] array) {
 			return new PrecomputedTypeInstanceWrapper(super.fromArray(type, array), type);
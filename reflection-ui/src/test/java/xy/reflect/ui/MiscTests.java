@@ -4,29 +4,73 @@
 package xy.reflect.ui;
 
 import java.awt.Rectangle;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JDialog;
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
 
 import org.junit.Assert;
+import org.jdesktop.swingx.treetable.TreeTableModel;
 import org.junit.Test;
 
+import xy.reflect.ui.control.IFieldControlData;
+import xy.reflect.ui.control.IFieldControlInput;
+import xy.reflect.ui.control.plugin.IFieldControlPlugin;
+import xy.reflect.ui.control.swing.ListControl;
 import xy.reflect.ui.control.swing.builder.StandardEditorBuilder;
+import xy.reflect.ui.control.swing.renderer.CustomizedSwingRenderer;
+import xy.reflect.ui.control.swing.renderer.FieldAutoRefreshScheduler;
+import xy.reflect.ui.control.swing.renderer.FieldControlPlaceHolder;
 import xy.reflect.ui.control.swing.renderer.Form;
 import xy.reflect.ui.control.swing.renderer.SwingRenderer;
 import xy.reflect.ui.control.swing.util.SwingRendererUtils;
+import xy.reflect.ui.info.custom.InfoCustomizations;
+import xy.reflect.ui.info.custom.InfoCustomizations.FieldCustomization;
+import xy.reflect.ui.info.custom.InfoCustomizations.ListCustomization;
+import xy.reflect.ui.info.custom.InfoCustomizations.TypeCustomization;
+import xy.reflect.ui.info.field.IFieldInfo;
 import xy.reflect.ui.info.filter.IInfoFilter;
+import xy.reflect.ui.info.menu.MenuModel;
 import xy.reflect.ui.info.method.IMethodInfo;
+import xy.reflect.ui.info.type.DefaultTypeInfo;
 import xy.reflect.ui.info.type.ITypeInfo;
+import xy.reflect.ui.info.type.factory.InfoProxyFactory;
+import xy.reflect.ui.info.type.iterable.item.BufferedItemPosition;
+import xy.reflect.ui.info.type.source.ITypeInfoSource;
+import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
 import xy.reflect.ui.util.Accessor;
+import xy.reflect.ui.util.CacheRegistry;
+import xy.reflect.ui.util.ClassMembersIndex;
+import xy.reflect.ui.util.IntKeyMap;
+import xy.reflect.ui.util.JavaMemberInvoker;
 import xy.reflect.ui.util.MiscUtils;
+import xy.reflect.ui.util.ReflectionUIError;
 import xy.reflect.ui.util.ReflectionUIUtils;
 
 public class MiscTests {
@@ -75,6 +119,442 @@ public class MiscTests {
 		}
 	}
 
+	@Test
+	public void testCustomizedTypeInfoCache() throws Exception {
+		CustomizedUI customizedUI = new CustomizedUI();
+		ITypeInfo type1 = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(new Rectangle()));
+		ITypeInfo type2 = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(new Rectangle()));
+		Assert.assertTrue(type1 == type2);
+		customizedUI.getInfoCustomizations().notifyChange();
+		ITypeInfo type3 = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(new Rectangle()));
+		Assert.assertTrue(type1 != type3);
+		Assert.assertEquals(type1, type3);
+	}
+
+	@Test
+	public void testCustomizedMembersCache() throws Exception {
+		CustomizedUI customizedUI = new CustomizedUI();
+		InfoProxyFactory factory = customizedUI.getInfoCustomizationsFactory();
+		ITypeInfo baseType = new DefaultTypeInfo(new JavaTypeInfoSource(customizedUI, MembersTestObject.class, null));
+		ITypeInfo type = factory.wrapTypeInfo(baseType);
+		/*
+		 * The menu model is built once by the cached members customizations. It is
+		 * then used to detect the members cache hits and misses.
+		 */
+		MenuModel menuModel = type.getMenuModel();
+		Assert.assertSame(menuModel, type.getMenuModel());
+		Assert.assertSame(menuModel, factory.wrapTypeInfo(baseType).getMenuModel());
+
+		ITypeInfo sameNameBaseType = new DefaultTypeInfo(
+				new JavaTypeInfoSource(customizedUI, MembersTestObject.class, null));
+		Assert.assertEquals(baseType.getName(), sameNameBaseType.getName());
+		Assert.assertNotSame(menuModel, factory.wrapTypeInfo(sameNameBaseType).getMenuModel());
+
+		menuModel = type.getMenuModel();
+		Assert.assertSame(menuModel, type.getMenuModel());
+		customizedUI.getInfoCustomizations().notifyChange();
+		Assert.assertNotSame(menuModel, type.getMenuModel());
+		Assert.assertSame(type.getMenuModel(), type.getMenuModel());
+	}
+
+	@Test
+	public void testStableWrappingLists() throws Exception {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		ITypeInfo baseType = reflectionUI
+				.buildTypeInfo(new JavaTypeInfoSource(reflectionUI, MembersTestObject.class, null));
+		final boolean[] lastFieldExcluded = new boolean[1];
+		ITypeInfo type = new InfoProxyFactory() {
+
+			@Override
+			protected boolean isWrappingStable() {
+				return true;
+			}
+
+			@Override
+			protected List<IFieldInfo> getFields(ITypeInfo type) {
+				List<IFieldInfo> result = new ArrayList<IFieldInfo>(super.getFields(type));
+				if (lastFieldExcluded[0]) {
+					result.remove(result.size() - 1);
+				}
+				return result;
+			}
+		}.wrapTypeInfo(baseType);
+		ITypeInfo chainedType = new InfoProxyFactory() {
+
+			@Override
+			protected boolean isWrappingStable() {
+				return true;
+			}
+		}.wrapTypeInfo(type);
+
+		List<IFieldInfo> fields = type.getFields();
+		Assert.assertSame(fields, type.getFields());
+		List<IFieldInfo> chainedFields = chainedType.getFields();
+		Assert.assertSame(chainedFields, chainedType.getFields());
+		Assert.assertSame(type.getMethods(), type.getMethods());
+		try {
+			fields.clear();
+			Assert.fail();
+		} catch (UnsupportedOperationException expected) {
+		}
+
+		lastFieldExcluded[0] = true;
+		List<IFieldInfo> newFields = type.getFields();
+		Assert.assertNotSame(fields, newFields);
+		Assert.assertEquals(fields.size() - 1, newFields.size());
+		for (int i = 0; i < newFields.size(); i++) {
+			Assert.assertSame(fields.get(i), newFields.get(i));
+		}
+		Assert.assertSame(newFields, type.getFields());
+		List<IFieldInfo> newChainedFields = chainedType.getFields();
+		Assert.assertEquals(newFields.size(), newChainedFields.size());
+		Assert.assertSame(chainedFields.get(0), newChainedFields.get(0));
+		Assert.assertSame(newChainedFields, chainedType.getFields());
+	}
+
+	@Test
+	public void testFieldControlPluginApplicabilityCache() throws Exception {
+		CustomizedSwingRenderer swingRenderer = new CustomizedSwingRenderer(new CustomizedUI());
+		final int[] handlesCallCount = new int[] { 0 };
+		IFieldControlPlugin plugin = new IFieldControlPlugin() {
+			@Override
+			public boolean handles(IFieldControlInput input) {
+				handlesCallCount[0]++;
+				return true;
+			}
+
+			@Override
+			public boolean canDisplayDistinctNullValue() {
+				return false;
+			}
+
+			@Override
+			public Object createControl(Object renderer, IFieldControlInput input) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public String getControlTitle() {
+				return "Test";
+			}
+
+			@Override
+			public String getIdentifier() {
+				return "testFieldControlPluginApplicabilityCache.plugin";
+			}
+
+			@Override
+			public IFieldControlData filterDistinctNullValueControlData(Object renderer,
+					IFieldControlData controlData) {
+				return controlData;
+			}
+		};
+		Map<String, Object> selectionCriteria = new HashMap<String, Object>();
+		selectionCriteria.put("typeName", String.class.getName());
+		Assert.assertTrue(swingRenderer.isFieldControlPluginApplicable(plugin, null, selectionCriteria));
+		Assert.assertTrue(swingRenderer.isFieldControlPluginApplicable(plugin, null,
+				new HashMap<String, Object>(selectionCriteria)));
+		Assert.assertEquals(1, handlesCallCount[0]);
+		selectionCriteria.put("typeName", Integer.class.getName());
+		Assert.assertTrue(swingRenderer.isFieldControlPluginApplicable(plugin, null, selectionCriteria));
+		Assert.assertEquals(2, handlesCallCount[0]);
+		swingRenderer.getInfoCustomizations().notifyChange();
+		Assert.assertTrue(swingRenderer.isFieldControlPluginApplicable(plugin, null, selectionCriteria));
+		Assert.assertEquals(3, handlesCallCount[0]);
+	}
+
+	@Test
+	public void testCacheRegistry() throws Exception {
+		String cacheName = "testCacheRegistry.cache";
+		Map<Object, Object> cache = MiscUtils.newAutoCleanUpCache(false, false, 2, 1000, cacheName);
+		cache.put(1, 1);
+		cache.put(2, 2);
+		cache.put(3, 3);
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(1, CacheRegistry.getStatistics().get(cacheName).evictionCount());
+		Assert.assertEquals(3, cache.get(3));
+		Assert.assertNull(cache.get(1));
+		Assert.assertTrue(cache.containsKey(2));
+		Assert.assertEquals(2, CacheRegistry.getStatistics().get(cacheName).hitCount());
+		Assert.assertEquals(1, CacheRegistry.getStatistics().get(cacheName).missCount());
+		System.gc();
+		Assert.assertTrue(CacheRegistry.getStatistics().containsKey(cacheName));
+	}
+
+	@Test
+	public void testIntKeyMap() throws Exception {
+		IntKeyMap<String> map = new IntKeyMap<String>();
+		Assert.assertFalse(map.containsKey(-1));
+		map.put(-1, null);
+		for (int i = 0; i < 1000; i++) {
+			map.put(i, "value" + i);
+		}
+		Assert.assertEquals(1001, map.size());
+		Assert.assertTrue(map.containsKey(-1));
+		Assert.assertNull(map.get(-1));
+		Assert.assertEquals("value999", map.get(999));
+		Assert.assertFalse(map.containsKey(1000));
+		int valueCount = 0;
+		for (int slot = 0; slot < map.getSlotCount(); slot++) {
+			if (map.getSlotValue(slot) != null) {
+				Assert.assertEquals("value" + map.getSlotKey(slot), map.getSlotValue(slot));
+				valueCount++;
+			}
+		}
+		Assert.assertEquals(1000, valueCount);
+		map.clear();
+		Assert.assertEquals(0, map.size());
+		Assert.assertFalse(map.containsKey(0));
+		Assert.assertNull(map.get(999));
+	}
+
+	@Test
+	public void testFieldValueChangesSubscription() throws Exception {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		ObservableTestObject object = new ObservableTestObject();
+		ITypeInfo type = reflectionUI.buildTypeInfo(reflectionUI.getTypeInfoSource(object));
+		IFieldInfo field = ReflectionUIUtils.findInfoByName(type.getFields(), "name");
+		final int[] notificationCount = new int[] { 0 };
+		Runnable unsubscription = field.subscribeToValueChanges(object, new Runnable() {
+			@Override
+			public void run() {
+				notificationCount[0]++;
+			}
+		});
+		Assert.assertNotNull(unsubscription);
+		object.setName("a");
+		object.setOther(new TestObject());
+		object.setName("b");
+		Assert.assertEquals(2, notificationCount[0]);
+		unsubscription.run();
+		object.setName("c");
+		Assert.assertEquals(2, notificationCount[0]);
+		TestObject plainObject = new TestObject();
+		type = reflectionUI.buildTypeInfo(reflectionUI.getTypeInfoSource(plainObject));
+		field = ReflectionUIUtils.findInfoByName(type.getFields(), "other");
+		Assert.assertNull(field.subscribeToValueChanges(plainObject, unsubscription));
+	}
+
+	@Test
+	public void testDerivedFieldRefreshAfterObservableFieldModification() throws Exception {
+		final ObservableTestObject object = new ObservableTestObject();
+		final SwingRenderer swingRenderer = new SwingRenderer(new ReflectionUI());
+		final TestForm[] form = new TestForm[1];
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				form[0] = new TestForm(swingRenderer, object);
+				Assert.assertTrue(form[0].getFieldControlPlaceHolder("description").isSubscribedToValueChanges());
+			}
+		});
+		final int initialDescriptionRetrievalCount = object.getDescriptionRetrievalCount();
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				form[0].getFieldControlPlaceHolder("name").getControlData().setValue("modified");
+			}
+		});
+		form[0].waitForRefresh();
+		Assert.assertEquals("modified", object.getName());
+		Assert.assertTrue(object.getDescriptionRetrievalCount() > initialDescriptionRetrievalCount);
+	}
+
+	@Test
+	public void testDependencyFilteredFieldsRefresh() throws Exception {
+		final DependentFieldsTestObject object = new DependentFieldsTestObject();
+		final SwingRenderer swingRenderer = new SwingRenderer(new ReflectionUI() {
+			@Override
+			public ITypeInfo buildTypeInfo(ITypeInfoSource typeInfoSource) {
+				ITypeInfo result = super.buildTypeInfo(typeInfoSource);
+				if (!result.getName().equals(DependentFieldsTestObject.class.getName())) {
+					return result;
+				}
+				return new InfoProxyFactory() {
+					@Override
+					protected Map<String, Object> getSpecificProperties(IFieldInfo field, ITypeInfo containingType) {
+						Map<String, Object> result = new HashMap<String, Object>(
+								super.getSpecificProperties(field, containingType));
+						if (field.getName().equals("independent")) {
+							result.put(Form.FIELD_DEPENDENCIES_PROPERTY_KEY, "");
+						}
+						if (field.getName().equals("dependent")) {
+							result.put(Form.FIELD_DEPENDENCIES_PROPERTY_KEY, "source");
+						}
+						return result;
+					}
+				}.wrapTypeInfo(result);
+			}
+		});
+		final TestForm[] forms = new TestForm[2];
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				forms[0] = new TestForm(swingRenderer, object);
+				forms[1] = new TestForm(swingRenderer, object);
+				object.retrievalCountByField.clear();
+				forms[0].getFieldControlPlaceHolder("source").getControlData().setValue("modified");
+			}
+		});
+		forms[0].waitForRefresh();
+		Assert.assertEquals("modified", object.getSource());
+		Assert.assertNotNull(object.retrievalCountByField.get("dependent"));
+		Assert.assertNull(object.retrievalCountByField.get("independent"));
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				object.retrievalCountByField.clear();
+				forms[1].recordExternalFieldsUpdate(Collections.singleton("independent"));
+				forms[1].refresh(false);
+				Assert.assertNotNull(object.retrievalCountByField.get("independent"));
+				Assert.assertNull(object.retrievalCountByField.get("dependent"));
+				object.retrievalCountByField.clear();
+				forms[1].refresh(false);
+				Assert.assertNotNull(object.retrievalCountByField.get("independent"));
+				Assert.assertNotNull(object.retrievalCountByField.get("dependent"));
+			}
+		});
+	}
+
+	@Test
+	public void testChangeOnlyAutoRefresh() throws Exception {
+		final AutoRefreshTestObject object = new AutoRefreshTestObject();
+		final SwingRenderer swingRenderer = new SwingRenderer(new ReflectionUI() {
+			@Override
+			public ITypeInfo buildTypeInfo(ITypeInfoSource typeInfoSource) {
+				ITypeInfo result = super.buildTypeInfo(typeInfoSource);
+				if (!result.getName().equals(AutoRefreshTestObject.class.getName())) {
+					return result;
+				}
+				return new InfoProxyFactory() {
+					@Override
+					protected long getAutoUpdatePeriodMilliseconds(IFieldInfo field, ITypeInfo containingType) {
+						return 10;
+					}
+				}.wrapTypeInfo(result);
+			}
+		}) {
+			{
+				fieldAutoRefreshScheduler = new FieldAutoRefreshScheduler(this) {
+					@Override
+					protected PeriodGroup createPeriodGroup(long period) {
+						return new PeriodGroup(period) {
+							@Override
+							protected List<FieldControlPlaceHolder> collectActiveFieldControlPlaceHolders() {
+								/*
+								 * No window can be displayed during the tests:
+								 */
+								List<FieldControlPlaceHolder> result = new ArrayList<FieldControlPlaceHolder>();
+								for (FieldControlPlaceHolder fieldControlPlaceHolder : fieldControlPlaceHolders) {
+									if (fieldControlPlaceHolder.getParent() != null) {
+										result.add(fieldControlPlaceHolder);
+									}
+								}
+								return result;
+							}
+						};
+					}
+				};
+			}
+		};
+		final TestForm[] form = new TestForm[1];
+		final int[] refreshCount = new int[1];
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				form[0] = new TestForm(swingRenderer, object);
+			}
+		});
+		form[0].waitForRefresh();
+		object.waitForValueRetrievals(3);
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				Assert.assertTrue(form[0].getFieldControlPlaceHolder("value").isAutoRefreshActive());
+				refreshCount[0] = form[0].getFieldControlRefreshCount();
+			}
+		});
+		object.waitForValueRetrievals(3);
+		Assert.assertEquals(refreshCount[0], form[0].getFieldControlRefreshCount());
+		object.setValue(1);
+		object.waitForValueRetrievals(3);
+		Assert.assertTrue(form[0].getFieldControlRefreshCount() > refreshCount[0]);
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				object.setValue(2);
+				form[0].getFieldControlPlaceHolder("value").refreshUI(false);
+				object.setValue(1);
+				refreshCount[0] = form[0].getFieldControlRefreshCount();
+			}
+		});
+		object.waitForValueRetrievals(3);
+		Assert.assertTrue(form[0].getFieldControlRefreshCount() > refreshCount[0]);
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				swingRenderer.getFieldAutoRefreshScheduler()
+						.unregister(form[0].getFieldControlPlaceHolder("value"));
+			}
+		});
+	}
+
+	@Test
+	public void testSupersededValuePrefetch() throws Exception {
+		final BlockingTestObject object = new BlockingTestObject();
+		final SwingRenderer swingRenderer = new SwingRenderer(new ReflectionUI()) {
+			{
+				/*
+				 * A single thread makes the order of the value retrievals predictable:
+				 */
+				fieldValuePrefetcher = MiscUtils.newBoundedExecutor("testSupersededValuePrefetch", 1);
+			}
+		};
+		final TestForm[] form = new TestForm[1];
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				form[0] = new TestForm(swingRenderer, object);
+			}
+		});
+		form[0].waitForRefresh();
+		object.setBlocking(true);
+		final Runnable otherFieldModification = new Runnable() {
+			@Override
+			public void run() {
+				form[0].getFieldControlPlaceHolder("other").getControlData().setValue(null);
+			}
+		};
+		final Runnable staleValueCheck = new Runnable() {
+			@Override
+			public void run() {
+				Assert.assertTrue(form[0].getFieldControlPlaceHolder("blocked").isValueStale());
+			}
+		};
+		SwingUtilities.invokeAndWait(otherFieldModification);
+		Thread.sleep(Form.STALE_VALUE_INDICATION_DELAY_MILLISECONDS * 2);
+		SwingUtilities.invokeAndWait(staleValueCheck);
+		SwingUtilities.invokeAndWait(otherFieldModification);
+		/*
+		 * The value retrievals of the first refresh are blocked. The pending one is
+		 * expected to be skipped since this refresh is now superseded:
+		 */
+		int otherRetrievalCount = object.getOtherRetrievalCount();
+		Thread.sleep(Form.STALE_VALUE_INDICATION_DELAY_MILLISECONDS * 2);
+		object.unblockRetrievals(1);
+		Thread.sleep(Form.STALE_VALUE_INDICATION_DELAY_MILLISECONDS);
+		SwingUtilities.invokeAndWait(staleValueCheck);
+		Assert.assertEquals(otherRetrievalCount, object.getOtherRetrievalCount());
+		object.setBlocking(false);
+		form[0].waitForRefresh();
+		Assert.assertEquals(otherRetrievalCount + 1, object.getOtherRetrievalCount());
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				Assert.assertFalse(form[0].getFieldControlPlaceHolder("blocked").isValueStale());
+			}
+		});
+	}
+
 	@Test
 	public void testDefaultPersistence() throws Exception {
 		Date objectToSave = new Date();
@@ -99,43 +579,33 @@ public class MiscTests {
 		cache.put(new Object(), new Object());
 		Assert.assertEquals(1, cache.size());
 
-		boolean cacheThreadFound;
-		cacheThreadFound = false;
+		Assert.assertTrue(CacheRegistry.isMaintenanceActive());
 		for (Thread t : Thread.getAllStackTraces().keySet()) {
-			if (t.getName().contains(cacheName)) {
-				cacheThreadFound = true;
-				break;
-			}
+			Assert.assertFalse(t.getName().contains(cacheName));
 		}
-		Assert.assertTrue(cacheThreadFound);
 
+		long maintenanceCleanUpCount = CacheRegistry.getMaintenanceCleanUpCount();
 		tryToForceGarbageCollection();
 		Thread.sleep(2000);
 		Assert.assertEquals(0, cache.size());
+		Assert.assertTrue(CacheRegistry.getMaintenanceCleanUpCount() > maintenanceCleanUpCount);
 
 		String referencedCacheName = "testAutoCleanUpWeakKeysCache.referencedCache";
 		Accessor<Map<Object, Object>> cacheReference = Accessor
 				.returning(MiscUtils.newAutoCleanUpCache(true, false, 10, 1000, referencedCacheName), true);
-		cacheThreadFound = false;
-		for (Thread t : Thread.getAllStackTraces().keySet()) {
-			if (t.getName().contains(referencedCacheName)) {
-				cacheThreadFound = true;
-				break;
-			}
-		}
-		Assert.assertTrue(cacheThreadFound);
+		tryToForceGarbageCollection();
+		Thread.sleep(1000);
+		Assert.assertTrue(CacheRegistry.getStatistics().containsKey(referencedCacheName));
 
 		cacheReference.set(null);
-		tryToForceGarbageCollection();
-		Thread.sleep(3000);
-		cacheThreadFound = false;
-		for (Thread t : Thread.getAllStackTraces().keySet()) {
-			if (t.getName().contains(referencedCacheName)) {
-				cacheThreadFound = true;
+		for (int i = 0; i < 10; i++) {
+			tryToForceGarbageCollection();
+			Thread.sleep(1000);
+			if (!CacheRegistry.getStatistics().containsKey(referencedCacheName)) {
 				break;
 			}
 		}
-		Assert.assertTrue(!cacheThreadFound);
+		Assert.assertFalse(CacheRegistry.getStatistics().containsKey(referencedCacheName));
 	}
 
 	@Test
@@ -209,6 +679,417 @@ public class MiscTests {
 				IInfoFilter.DEFAULT));
 	}
 
+	@Test
+	public void testClassMembersIndex() throws Exception {
+		ClassMembersIndex index = ClassMembersIndex.get(MembersTestObject.class);
+		Assert.assertSame(index, ClassMembersIndex.get(MembersTestObject.class));
+		Assert.assertTrue(index.hasCompatiblePublicField("publicField"));
+		Assert.assertFalse(index.hasCompatiblePublicField("count"));
+		Method setCount = MembersTestObject.class.getMethod("setCount", int.class);
+		Method setUnrelated = MembersTestObject.class.getMethod("setUnrelated", String.class);
+		Method increment = MembersTestObject.class.getMethod("increment", int.class);
+		Assert.assertEquals(Arrays.asList(setCount), index.getMethodsByName("setCount"));
+		Assert.assertEquals(Arrays.asList(increment), index.getMethodsBySignature(index.getSignature(increment)));
+		Assert.assertEquals(ReflectionUIUtils.buildMethodSignature(increment), index.getSignature(increment));
+		Assert.assertTrue(index.isGetterSetter(setCount));
+		Assert.assertTrue(index.isGetterSetter(MembersTestObject.class.getMethod("setFlag", boolean.class)));
+		Assert.assertFalse(index.isGetterSetter(setUnrelated));
+		Assert.assertFalse(index.isGetterSetter(increment));
+		Assert.assertTrue(ClassMembersIndex.overridesObjectMethod(MembersTestObject.class.getMethod("toString")));
+		Assert.assertFalse(ClassMembersIndex.overridesObjectMethod(increment));
+
+		ReflectionUI reflectionUI = new ReflectionUI();
+		ITypeInfo type = reflectionUI.buildTypeInfo(new JavaTypeInfoSource(reflectionUI, MembersTestObject.class, null));
+		List<String> fieldNames = new ArrayList<String>();
+		for (IFieldInfo field : type.getFields()) {
+			fieldNames.add(field.getName());
+		}
+		Collections.sort(fieldNames);
+		Assert.assertEquals(Arrays.asList("count", "flag", "publicField", "readOnly"), fieldNames);
+		Assert.assertFalse(ReflectionUIUtils.findInfoByName(type.getFields(), "count").isGetOnly());
+		Assert.assertTrue(ReflectionUIUtils.findInfoByName(type.getFields(), "readOnly").isGetOnly());
+		List<String> methodNames = new ArrayList<String>();
+		for (IMethodInfo method : type.getMethods()) {
+			methodNames.add(method.getName());
+		}
+		Assert.assertTrue(methodNames.contains("increment"));
+		Assert.assertTrue(methodNames.contains("setUnrelated"));
+		Assert.assertFalse(methodNames.contains("setCount"));
+		Assert.assertFalse(methodNames.contains("setFlag"));
+		Assert.assertFalse(methodNames.contains("toString"));
+	}
+
+	@Test
+	public void testCustomizationIndex() throws Exception {
+		InfoCustomizations customizations = new InfoCustomizations();
+		InfoCustomizations otherCustomizations = new InfoCustomizations();
+		TypeCustomization a = InfoCustomizations.getTypeCustomization(customizations, "a", true);
+		TypeCustomization b = InfoCustomizations.getTypeCustomization(customizations, "b", true);
+		TypeCustomization other = InfoCustomizations.getTypeCustomization(otherCustomizations, "a", true);
+		Assert.assertSame(a, InfoCustomizations.getTypeCustomization(customizations, "a", false));
+		Assert.assertSame(b, InfoCustomizations.getTypeCustomization(customizations, "b", false));
+		Assert.assertNull(InfoCustomizations.getTypeCustomization(customizations, "c", false));
+		Assert.assertEquals(2, customizations.getTypeCustomizations().size());
+
+		b.setTypeName("c");
+		Assert.assertNull(InfoCustomizations.getTypeCustomization(customizations, "b", false));
+		Assert.assertSame(b, InfoCustomizations.getTypeCustomization(customizations, "c", false));
+
+		FieldCustomization f = InfoCustomizations.getFieldCustomization(a, "f", true);
+		Assert.assertSame(f, InfoCustomizations.getFieldCustomization(a, "f", false));
+		f.setFieldName("g");
+		Assert.assertNull(InfoCustomizations.getFieldCustomization(a, "f", false));
+		Assert.assertSame(f, InfoCustomizations.getFieldCustomization(a, "g", false));
+
+		ListCustomization l = InfoCustomizations.getListCustomization(customizations, "list", "item", true);
+		l.setItemTypeName("otherItem");
+		Assert.assertNull(InfoCustomizations.getListCustomization(customizations, "list", "item", false));
+		Assert.assertSame(l, InfoCustomizations.getListCustomization(customizations, "list", "otherItem", false));
+
+		final int[] keyReadCount = new int[1];
+		TypeCustomization counting = new TypeCustomization() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public String getTypeName() {
+				keyReadCount[0]++;
+				return super.getTypeName();
+			}
+		};
+		counting.setTypeName("counting");
+		otherCustomizations.getTypeCustomizations().add(counting);
+		Assert.assertSame(counting, InfoCustomizations.getTypeCustomization(otherCustomizations, "counting", false));
+		keyReadCount[0] = 0;
+		Assert.assertSame(other, InfoCustomizations.getTypeCustomization(otherCustomizations, "a", false));
+		Assert.assertNull(InfoCustomizations.getTypeCustomization(otherCustomizations, "missing", false));
+		customizations.notifyChange();
+		Assert.assertSame(counting, InfoCustomizations.getTypeCustomization(otherCustomizations, "counting", false));
+		Assert.assertEquals(0, keyReadCount[0]);
+		otherCustomizations.notifyChange();
+		Assert.assertSame(counting, InfoCustomizations.getTypeCustomization(otherCustomizations, "counting", false));
+		Assert.assertEquals(1, keyReadCount[0]);
+	}
+
+	@Test
+	public void testJavaMemberInvoker() throws Exception {
+		MembersTestObject object = (MembersTestObject) JavaMemberInvoker
+				.forConstructor(MembersTestObject.class.getConstructor())
+				.invoke(null, JavaMemberInvoker.NO_ARGUMENTS);
+		JavaMemberInvoker getCount = JavaMemberInvoker.forMethod(MembersTestObject.class.getMethod("getCount"));
+		JavaMemberInvoker setCount = JavaMemberInvoker
+				.forMethod(MembersTestObject.class.getMethod("setCount", int.class));
+		Assert.assertNull(setCount.invoke(object, new Object[] { 5 }));
+		Assert.assertEquals(5, getCount.invoke(object, JavaMemberInvoker.NO_ARGUMENTS));
+		Assert.assertEquals(6, JavaMemberInvoker.forMethod(MembersTestObject.class.getMethod("twice", int.class))
+				.invoke(null, new Object[] { 3 }));
+		JavaMemberInvoker publicFieldSetter = JavaMemberInvoker
+				.forFieldSetter(MembersTestObject.class.getField("publicField"));
+		JavaMemberInvoker publicFieldGetter = JavaMemberInvoker
+				.forFieldGetter(MembersTestObject.class.getField("publicField"));
+		Assert.assertNull(publicFieldSetter.invoke(object, new Object[] { "value" }));
+		Assert.assertEquals("value", publicFieldGetter.invoke(object, JavaMemberInvoker.NO_ARGUMENTS));
+		Assert.assertNull(publicFieldSetter.invoke(object, new Object[] { null }));
+		Assert.assertNull(publicFieldGetter.invoke(object, JavaMemberInvoker.NO_ARGUMENTS));
+		/*
+		 * The invalid invocations fall back to reflection and must fail the same way
+		 * as before:
+		 */
+		try {
+			setCount.invoke(object, new Object[] { null });
+			Assert.fail();
+		} catch (ReflectionUIError expected) {
+			Assert.assertTrue(expected.getCause() instanceof IllegalArgumentException);
+		}
+		try {
+			getCount.invoke(new Object(), JavaMemberInvoker.NO_ARGUMENTS);
+			Assert.fail();
+		} catch (ReflectionUIError expected) {
+			Assert.assertTrue(expected.getCause() instanceof IllegalArgumentException);
+		}
+		try {
+			publicFieldSetter.invoke(object, new Object[] { 1 });
+			Assert.fail();
+		} catch (ReflectionUIError expected) {
+			Assert.assertTrue(expected.getCause() instanceof IllegalArgumentException);
+		}
+		Assert.assertEquals(5, getCount.invoke(object, JavaMemberInvoker.NO_ARGUMENTS));
+		try {
+			JavaMemberInvoker.forMethod(MembersTestObject.class.getMethod("fail")).invoke(object,
+					JavaMemberInvoker.NO_ARGUMENTS);
+			Assert.fail();
+		} catch (ReflectionUIError expected) {
+			Assert.assertTrue(expected.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	public void testConcurrentJavaTypeInfoConstruction() throws Exception {
+		final ReflectionUI reflectionUI = new ReflectionUI();
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<ITypeInfo>> results = new ArrayList<Future<ITypeInfo>>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(new Callable<ITypeInfo>() {
+					@Override
+					public ITypeInfo call() throws Exception {
+						startSignal.await();
+						ITypeInfo result = new JavaTypeInfoSource(reflectionUI, ConcurrencyTestObject.class, null)
+								.getTypeInfo();
+						for (IFieldInfo field : result.getFields()) {
+							field.getType().getFields();
+						}
+						return result;
+					}
+				}));
+			}
+			startSignal.countDown();
+			ITypeInfo firstResult = results.get(0).get(10, TimeUnit.SECONDS);
+			for (Future<ITypeInfo> result : results) {
+				Assert.assertSame(firstResult, result.get(10, TimeUnit.SECONDS));
+			}
+			Assert.assertSame(firstResult,
+					new JavaTypeInfoSource(reflectionUI, ConcurrencyTestObject.class, null).getTypeInfo());
+			Assert.assertEquals(2, firstResult.getFields().size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testJavaTypeInfoConstructionDependencies() throws Exception {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final CountDownLatch dependencyConstructionStarted = new CountDownLatch(1);
+			final CountDownLatch dependencyConstructionAllowed = new CountDownLatch(1);
+			final HookedJavaTypeInfoSource dependency = new HookedJavaTypeInfoSource(reflectionUI, Integer.class);
+			dependency.constructionHook = new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					dependencyConstructionStarted.countDown();
+					dependencyConstructionAllowed.await();
+					return null;
+				}
+			};
+			final AtomicReference<Object> dependencyDuringConstruction = new AtomicReference<Object>();
+			final HookedJavaTypeInfoSource dependent = new HookedJavaTypeInfoSource(reflectionUI, Long.class);
+			dependent.constructionHook = new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					dependencyDuringConstruction.set(dependency.getTypeInfo());
+					return null;
+				}
+			};
+			Future<ITypeInfo> dependencyResult = executor.submit(new TypeInfoGetter(dependency));
+			Assert.assertTrue(dependencyConstructionStarted.await(10, TimeUnit.SECONDS));
+			Future<ITypeInfo> dependentResult = executor.submit(new TypeInfoGetter(dependent));
+			Thread.sleep(200);
+			dependencyConstructionAllowed.countDown();
+			dependentResult.get(10, TimeUnit.SECONDS);
+			Assert.assertSame(dependencyResult.get(10, TimeUnit.SECONDS), dependencyDuringConstruction.get());
+
+			final CountDownLatch firstConstructionStarted = new CountDownLatch(1);
+			final CountDownLatch secondConstructionStarted = new CountDownLatch(1);
+			final HookedJavaTypeInfoSource first = new HookedJavaTypeInfoSource(reflectionUI, Short.class);
+			final HookedJavaTypeInfoSource second = new HookedJavaTypeInfoSource(reflectionUI, Byte.class);
+			first.constructionHook = new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					if (firstConstructionStarted.getCount() == 0) {
+						return null;
+					}
+					firstConstructionStarted.countDown();
+					Assert.assertTrue(secondConstructionStarted.await(10, TimeUnit.SECONDS));
+					return second.getTypeInfo();
+				}
+			};
+			second.constructionHook = new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					if (secondConstructionStarted.getCount() == 0) {
+						return null;
+					}
+					secondConstructionStarted.countDown();
+					Assert.assertTrue(firstConstructionStarted.await(10, TimeUnit.SECONDS));
+					return first.getTypeInfo();
+				}
+			};
+			Future<ITypeInfo> firstResult = executor.submit(new TypeInfoGetter(first));
+			Future<ITypeInfo> secondResult = executor.submit(new TypeInfoGetter(second));
+			Assert.assertNotNull(firstResult.get(10, TimeUnit.SECONDS));
+			Assert.assertNotNull(secondResult.get(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testGenericTypeParametersGuessing() throws Exception {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		Method getItems = GenericsTestObject.class.getMethod("getItems");
+		Method setItems = GenericsTestObject.class.getMethod("setItems", List.class);
+		Assert.assertEquals(String.class, new JavaTypeInfoSource(reflectionUI, List.class, getItems, -1, null)
+				.guessGenericTypeParameters(Collection.class, 0));
+		Assert.assertEquals(String.class, new JavaTypeInfoSource(reflectionUI, List.class, setItems, 0, null)
+				.guessGenericTypeParameters(Collection.class, 0));
+		Assert.assertEquals(Arrays.<Class<?>>asList(Integer.class, Date.class),
+				new JavaTypeInfoSource(reflectionUI, Map.class, GenericsTestObject.class.getField("dates"), -1, null)
+						.guessGenericTypeParameters(Map.class));
+		Assert.assertEquals(Long.class,
+				new JavaTypeInfoSource(reflectionUI, Set.class,
+						GenericsTestObject.class.getConstructor(Set.class), 0, null)
+						.guessGenericTypeParameters(Collection.class, 0));
+		Assert.assertNull(new JavaTypeInfoSource(reflectionUI, List.class, getItems, -1, null)
+				.guessGenericTypeParameters(Collection.class, 1));
+		Assert.assertEquals(Date.class,
+				new JavaTypeInfoSource(reflectionUI, SubGenericsTestObject.class, null)
+						.guessGenericTypeParameters(Comparable.class, 0));
+		Assert.assertNull(new JavaTypeInfoSource(reflectionUI, String.class, Object.class.getMethod("toString"), -1,
+				null).guessGenericTypeParameters(Collection.class));
+	}
+
+	@Test
+	public void testIncrementalListControlRefresh() throws Exception {
+		final ListTestObject object = new ListTestObject();
+		final SwingRenderer swingRenderer = new SwingRenderer(new ReflectionUI());
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				TestForm form = new TestForm(swingRenderer, object);
+				TestListControl control = new TestListControl(swingRenderer,
+						form.getFieldControlPlaceHolder("items"));
+				TreeModel model = control.getTreeTableModel();
+				Object root = model.getRoot();
+				Assert.assertEquals(4, model.getChildCount(root));
+				Object bNode = model.getChild(root, 1);
+				Object dNode = model.getChild(root, 3);
+				final List<String> events = new ArrayList<String>();
+				final List<Object> eventChildren = new ArrayList<Object>();
+				model.addTreeModelListener(new TreeModelListener() {
+					@Override
+					public void treeNodesChanged(TreeModelEvent e) {
+						events.add("changed" + Arrays.toString(e.getChildIndices()));
+					}
+
+					@Override
+					public void treeNodesInserted(TreeModelEvent e) {
+						events.add("inserted" + Arrays.toString(e.getChildIndices()));
+						eventChildren.addAll(Arrays.asList(e.getChildren()));
+					}
+
+					@Override
+					public void treeNodesRemoved(TreeModelEvent e) {
+						events.add("removed" + Arrays.toString(e.getChildIndices()));
+						eventChildren.addAll(Arrays.asList(e.getChildren()));
+					}
+
+					@Override
+					public void treeStructureChanged(TreeModelEvent e) {
+						events.add("structureChanged");
+					}
+				});
+
+				object.getItems().add(2, "x");
+				control.refreshUI(false);
+				Assert.assertEquals(Arrays.asList("inserted[2]"), events);
+				Assert.assertEquals(1, eventChildren.size());
+				Assert.assertSame(model.getChild(root, 2), eventChildren.get(0));
+				Assert.assertSame(model, control.getTreeTableModel());
+				Assert.assertEquals(5, model.getChildCount(root));
+				Assert.assertSame(bNode, model.getChild(root, 1));
+				Assert.assertSame(dNode, model.getChild(root, 4));
+				Assert.assertEquals(4, model.getIndexOfChild(root, dNode));
+
+				events.clear();
+				eventChildren.clear();
+				object.getItems().remove(1);
+				control.refreshUI(false);
+				Assert.assertEquals(Arrays.asList("removed[1]"), events);
+				Assert.assertEquals(Arrays.asList(bNode), eventChildren);
+				Assert.assertEquals(4, model.getChildCount(root));
+				Assert.assertEquals(-1, model.getIndexOfChild(root, bNode));
+				Assert.assertSame(dNode, model.getChild(root, 3));
+
+				events.clear();
+				object.getItems().set(0, "y");
+				control.refreshUI(false);
+				Assert.assertEquals(Arrays.asList("changed[0]"), events);
+				Assert.assertEquals(4, model.getChildCount(root));
+				Assert.assertSame(dNode, model.getChild(root, 3));
+			}
+		});
+	}
+
+	@Test
+	public void testListControlItemLookupAfterInsertionAndRemoval() throws Exception {
+		final ListTestObject object = new ListTestObject();
+		final SwingRenderer swingRenderer = new SwingRenderer(new ReflectionUI());
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				TestForm form = new TestForm(swingRenderer, object);
+				TestListControl control = new TestListControl(swingRenderer,
+						form.getFieldControlPlaceHolder("items"));
+				String a = object.getItems().get(0);
+				String d = object.getItems().get(3);
+				BufferedItemPosition anyItemPosition = control.getRootListItemPosition(-1);
+				Assert.assertEquals(0, control.findItemPositionByReference(a).getIndex());
+				Assert.assertEquals(3, anyItemPosition.getContainingListItemIndex(d));
+
+				String x = new String("x");
+				anyItemPosition.insertInContainingList(1, x);
+				Assert.assertSame(x, object.getItems().get(1));
+				Assert.assertEquals(1, anyItemPosition.getContainingListItemIndex(x));
+				Assert.assertEquals(4, anyItemPosition.getContainingListItemIndex(d));
+				Assert.assertEquals(1, control.findItemPositionByReference(x).getIndex());
+				Assert.assertEquals(4, control.findItemPositionByReference(d).getIndex());
+
+				anyItemPosition.removeFromContainingList(0);
+				Assert.assertSame(x, object.getItems().get(0));
+				Assert.assertEquals(-1, anyItemPosition.getContainingListItemIndex(a));
+				Assert.assertEquals(0, anyItemPosition.getContainingListItemIndex(x));
+				Assert.assertEquals(3, anyItemPosition.getContainingListItemIndex(d));
+				Assert.assertNull(control.findItemPositionByReference(a));
+				Assert.assertEquals(0, control.findItemPositionByReference(x).getIndex());
+				Assert.assertEquals(3, control.findItemPositionByReference(d).getIndex());
+				Assert.assertSame(x, control.findItemPositionByReference(x).getItem());
+				Assert.assertEquals(-1, anyItemPosition.getContainingListItemIndex(new String("x")));
+			}
+		});
+	}
+
+	@Test
+	public void testSlowCellValuesComputedOutsideUIThread() throws Exception {
+		final SlowItemsTestObject object = new SlowItemsTestObject();
+		final SwingRenderer swingRenderer = new SwingRenderer(new ReflectionUI());
+		final TestListControl[] control = new TestListControl[1];
+		final Object[] displayedValue = new Object[1];
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				TestForm form = new TestForm(swingRenderer, object);
+				control[0] = new TestListControl(swingRenderer, form.getFieldControlPlaceHolder("items"));
+				TreeTableModel model = control[0].getTreeTableModel();
+				displayedValue[0] = model.getValueAt(model.getChild(model.getRoot(), 0), 0);
+			}
+		});
+		Assert.assertEquals("...", displayedValue[0]);
+		object.slowItem.release.countDown();
+		for (int i = 0; (i < 100) && "...".equals(displayedValue[0]); i++) {
+			Thread.sleep(50);
+			SwingUtilities.invokeAndWait(new Runnable() {
+				@Override
+				public void run() {
+					TreeTableModel model = control[0].getTreeTableModel();
+					displayedValue[0] = model.getValueAt(model.getChild(model.getRoot(), 0), 0);
+				}
+			});
+		}
+		Assert.assertEquals("slow", displayedValue[0]);
+		Assert.assertFalse(object.slowItem.computedInUIThread);
+	}
+
 	public static class TestObject {
 		TestObject other;
 
@@ -228,4 +1109,400 @@ public class MiscTests {
 
 	}
 
+	public static class MembersTestObject {
+		public String publicField;
+		private int count;
+		private boolean flag;
+
+		public MembersTestObject() {
+		}
+
+		public static int twice(int i) {
+			return i * 2;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public boolean isFlag() {
+			return flag;
+		}
+
+		public void setFlag(boolean flag) {
+			this.flag = flag;
+		}
+
+		public String getReadOnly() {
+			return "readOnly";
+		}
+
+		public void setUnrelated(String unrelated) {
+		}
+
+		public void increment(int delta) {
+			count += delta;
+		}
+
+		public void fail() {
+			throw new IllegalStateException("failure");
+		}
+
+		@Override
+		public String toString() {
+			return "MembersTestObject [count=" + count + "]";
+		}
+
+	}
+
+	public static class ConcurrencyTestObject {
+
+		public ConcurrencyTestObject getParent() {
+			return null;
+		}
+
+		public List<ConcurrencyTestObject> getChildren() {
+			return Collections.emptyList();
+		}
+
+	}
+
+	public static class HookedJavaTypeInfoSource extends JavaTypeInfoSource {
+
+		protected Callable<Object> constructionHook;
+
+		public HookedJavaTypeInfoSource(ReflectionUI reflectionUI, Class<?> javaType) {
+			super(reflectionUI, javaType, null);
+		}
+
+		@Override
+		protected DefaultTypeInfo createTypeInfo() {
+			try {
+				constructionHook.call();
+			} catch (Exception e) {
+				throw new ReflectionUIError(e);
+			}
+			return super.createTypeInfo();
+		}
+
+	}
+
+	public static class TypeInfoGetter implements Callable<ITypeInfo> {
+
+		protected ITypeInfoSource typeInfoSource;
+
+		public TypeInfoGetter(ITypeInfoSource typeInfoSource) {
+			this.typeInfoSource = typeInfoSource;
+		}
+
+		@Override
+		public ITypeInfo call() throws Exception {
+			return typeInfoSource.getTypeInfo();
+		}
+
+	}
+
+	public static class GenericsTestObject {
+		public Map<Integer, Date> dates;
+
+		public GenericsTestObject() {
+		}
+
+		public GenericsTestObject(Set<Long> ids) {
+		}
+
+		public List<String> getItems() {
+			return null;
+		}
+
+		public void setItems(List<String> items) {
+		}
+
+	}
+
+	public static class SubGenericsTestObject extends GenericsTestObject implements Comparable<Date> {
+
+		@Override
+		public int compareTo(Date o) {
+			return 0;
+		}
+
+	}
+
+	public static class ListTestObject {
+		private List<String> items = new ArrayList<String>(Arrays.asList("a", "b", "c", "d"));
+
+		public List<String> getItems() {
+			return items;
+		}
+
+		public void setItems(List<String> items) {
+			this.items = items;
+		}
+
+	}
+
+	public static class SlowItemsTestObject {
+		private SlowItem slowItem = new SlowItem();
+
+		public List<SlowItem> getItems() {
+			return Collections.singletonList(slowItem);
+		}
+
+	}
+
+	public static class SlowItem {
+		private CountDownLatch release = new CountDownLatch(1);
+		private volatile boolean computedInUIThread = false;
+
+		@Override
+		public String toString() {
+			if (SwingUtilities.isEventDispatchThread()) {
+				computedInUIThread = true;
+			}
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new AssertionError(e);
+			}
+			return "slow";
+		}
+
+	}
+
+	public static class TestListControl extends ListControl {
+
+		private static final long serialVersionUID = 1L;
+
+		public TestListControl(SwingRenderer swingRenderer, IFieldControlInput input) {
+			super(swingRenderer, input);
+		}
+
+		public TreeTableModel getTreeTableModel() {
+			return treeTableComponent.getTreeTableModel();
+		}
+
+	}
+
+	public static class ObservableTestObject {
+
+		private PropertyChangeSupport propertyChangeSupport = new PropertyChangeSupport(this);
+		private String name;
+		private TestObject other;
+		private int descriptionRetrievalCount = 0;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			String oldName = this.name;
+			this.name = name;
+			propertyChangeSupport.firePropertyChange("name", oldName, name);
+		}
+
+		public TestObject getOther() {
+			return other;
+		}
+
+		public String getDescription() {
+			descriptionRetrievalCount++;
+			return "Name: " + name;
+		}
+
+		public int getDescriptionRetrievalCount() {
+			return descriptionRetrievalCount;
+		}
+
+		public void setOther(TestObject other) {
+			TestObject oldOther = this.other;
+			this.other = other;
+			propertyChangeSupport.firePropertyChange("other", oldOther, other);
+		}
+
+		public void addPropertyChangeListener(String propertyName, PropertyChangeListener listener) {
+			propertyChangeSupport.addPropertyChangeListener(propertyName, listener);
+		}
+
+		public void removePropertyChangeListener(String propertyName, PropertyChangeListener listener) {
+			propertyChangeSupport.removePropertyChangeListener(propertyName, listener);
+		}
+
+	}
+
+	public static class AutoRefreshTestObject {
+
+		private volatile int value;
+		private volatile int valueRetrievalCount;
+
+		public int getValue() {
+			valueRetrievalCount++;
+			return value;
+		}
+
+		public void setValue(int value) {
+			this.value = value;
+		}
+
+		public void waitForValueRetrievals(int count) throws Exception {
+			int expectedValueRetrievalCount = valueRetrievalCount + count;
+			for (int i = 0; (i < 100) && (valueRetrievalCount < expectedValueRetrievalCount); i++) {
+				Thread.sleep(50);
+			}
+			Assert.assertTrue(valueRetrievalCount >= expectedValueRetrievalCount);
+		}
+
+	}
+
+	public static class BlockingTestObject {
+
+		private Semaphore retrievalPermits = new Semaphore(0);
+		private volatile boolean blocking = false;
+		private volatile int otherRetrievalCount;
+		private String blocked;
+		private String other;
+
+		public String getBlocked() {
+			if (blocking) {
+				try {
+					Assert.assertTrue(retrievalPermits.tryAcquire(5, TimeUnit.SECONDS));
+				} catch (InterruptedException e) {
+					throw new AssertionError(e);
+				}
+			}
+			return blocked;
+		}
+
+		public void setBlocked(String blocked) {
+			this.blocked = blocked;
+		}
+
+		public String getOther() {
+			otherRetrievalCount++;
+			return other;
+		}
+
+		public void setOther(String other) {
+			this.other = other;
+		}
+
+		public int getOtherRetrievalCount() {
+			return otherRetrievalCount;
+		}
+
+		public void setBlocking(boolean blocking) {
+			this.blocking = blocking;
+			if (!blocking) {
+				retrievalPermits.release(Integer.MAX_VALUE / 2);
+			}
+		}
+
+		public void unblockRetrievals(int count) {
+			retrievalPermits.release(count);
+		}
+
+	}
+
+	public static class DependentFieldsTestObject {
+
+		private Map<String, Integer> retrievalCountByField = Collections
+				.synchronizedMap(new HashMap<String, Integer>());
+		private String source;
+		private String independent;
+		private String dependent;
+
+		private synchronized void countRetrieval(String fieldName) {
+			Integer count = retrievalCountByField.get(fieldName);
+			retrievalCountByField.put(fieldName, (count == null) ? 1 : (count + 1));
+		}
+
+		public String getSource() {
+			countRetrieval("source");
+			return source;
+		}
+
+		public void setSource(String source) {
+			this.source = source;
+		}
+
+		public String getIndependent() {
+			countRetrieval("independent");
+			return independent;
+		}
+
+		public void setIndependent(String independent) {
+			this.independent = independent;
+		}
+
+		public String getDependent() {
+			countRetrieval("dependent");
+			return dependent;
+		}
+
+		public void setDependent(String dependent) {
+			this.dependent = dependent;
+		}
+
+	}
+
+	/**
+	 * Form that listens to its modifications and whose field controls behave as if
+	 * they were displayed.
+	 */
+	public static class TestForm extends Form {
+
+		private static final long serialVersionUID = 1L;
+
+		protected int fieldControlRefreshCount = 0;
+
+		public TestForm(SwingRenderer swingRenderer, Object object) {
+			super(swingRenderer, object, IInfoFilter.DEFAULT);
+			modificationStack.addListener(fieldsUpdateListener);
+		}
+
+		@Override
+		public FieldControlPlaceHolder createFieldControlPlaceHolder(IFieldInfo field) {
+			return new FieldControlPlaceHolder(this, field) {
+
+				private static final long serialVersionUID = 1L;
+
+				{
+					ancestorVisible = true;
+					updateAutoRefeshState();
+				}
+
+				@Override
+				public void refreshUI(boolean refreshStructure) {
+					fieldControlRefreshCount++;
+					super.refreshUI(refreshStructure);
+				}
+			};
+		}
+
+		public int getFieldControlRefreshCount() {
+			return fieldControlRefreshCount;
+		}
+
+		public void waitForRefresh() throws Exception {
+			final boolean[] refreshInProgress = new boolean[] { true };
+			for (int i = 0; (i < 100) && refreshInProgress[0]; i++) {
+				SwingUtilities.invokeAndWait(new Runnable() {
+					@Override
+					public void run() {
+						refreshInProgress[0] = valuePrefetchInProgress;
+					}
+				});
+				if (refreshInProgress[0]) {
+					Thread.sleep(50);
+				}
+			}
+			Assert.assertFalse(refreshInProgress[0]);
+		}
+
+	}
+
 }
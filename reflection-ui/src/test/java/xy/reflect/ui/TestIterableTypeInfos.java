@@ -5,23 +5,37 @@ package xy.reflect.ui;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import xy.reflect.ui.info.ValueReturnMode;
 import xy.reflect.ui.info.custom.InfoCustomizations;
+import xy.reflect.ui.info.custom.InfoCustomizations.InfoFilter;
 import xy.reflect.ui.info.custom.InfoCustomizations.ListCustomization;
 import xy.reflect.ui.info.custom.InfoCustomizations.TreeStructureDiscoverySettings;
 import xy.reflect.ui.info.field.IFieldInfo;
 import xy.reflect.ui.info.filter.IInfoFilter;
 import xy.reflect.ui.info.type.ITypeInfo;
+import xy.reflect.ui.info.type.factory.FilteredTypeFactory;
+import xy.reflect.ui.info.type.factory.InfoProxyFactory;
+import xy.reflect.ui.info.type.iterable.IInPlaceEditableListTypeInfo;
 import xy.reflect.ui.info.type.iterable.IListTypeInfo;
+import xy.reflect.ui.info.type.iterable.item.AbstractBufferedItemPositionFactory;
+import xy.reflect.ui.info.type.iterable.item.BufferedItemPosition;
 import xy.reflect.ui.info.type.iterable.item.ItemPosition;
 import xy.reflect.ui.info.type.iterable.item.AbstractItemPositionFactory;
 import xy.reflect.ui.info.type.iterable.structure.IListStructuralInfo;
 import xy.reflect.ui.info.type.source.JavaTypeInfoSource;
+import xy.reflect.ui.undo.IModification;
+import xy.reflect.ui.undo.ListModificationFactory;
+import xy.reflect.ui.util.ReflectionUIError;
 import xy.reflect.ui.util.ReflectionUIUtils;
 
 public class TestIterableTypeInfos {
@@ -81,11 +95,109 @@ public class TestIterableTypeInfos {
 
 		IListStructuralInfo itemListStructuralInfo = itemListTypeInfo.getStructuralInfo();
 
-		ItemPosition firstItemPosition = new AbstractItemPositionFactory() {
+		ItemPosition firstItemPosition = createItemPositionFactory(itemListFieldInfo).getRootItemPosition(0);
+		ITypeInfo firstItemType = customizedUI.buildTypeInfo(new JavaTypeInfoSource(customizedUI, itemList.get(0).getClass(), null));
+		Assert.assertEquals(itemListStructuralInfo.getColumns().get(0).getCellValue(firstItemPosition),
+				firstItemType.getCaption());
+
+		IFieldInfo valueField = ReflectionUIUtils.findInfoByName(firstItemType.getFields(), "value");
+		for (int i = 0; i < itemListStructuralInfo.getColumns().size(); i++) {
+			if (itemListStructuralInfo.getColumns().get(i).getCaption().equals(valueField.getCaption())) {
+				Assert.fail();
+			}
+		}
+
+		IInfoFilter firstItemInfoSettings = itemListStructuralInfo.getItemInfoFilter(firstItemPosition);
+		Assert.assertTrue(!firstItemInfoSettings.excludeField(valueField));
+
+		IFieldInfo subItemsField = ReflectionUIUtils.findInfoByName(firstItemType.getFields(), "subItems");
+		IFieldInfo subListField = itemListStructuralInfo.getItemSubListField(firstItemPosition);
+		Assert.assertTrue(subListField.getCaption().contains(subItemsField.getCaption()));
+
+		Object subListNameNodeList = subListField.getValue(firstItemPosition.getItem());
+		Object subListNameNode = ((IListTypeInfo) subListField.getType()).toArray(subListNameNodeList)[0];
+		ITypeInfo subListNameNodeType = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(subListNameNode));
+		IFieldInfo actualSubListField = subListNameNodeType.getFields().get(0);
+		Object subList = actualSubListField.getValue(subListNameNode);
+		Assert.assertTrue(subList == null);
+	}
+
+	@Test
+	public void testSubListFieldDiscoveryCache() {
+		CustomizedUI customizedUI = new CustomizedUI();
+		ITypeInfo typeInfo = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(this));
+		IFieldInfo itemListFieldInfo = ReflectionUIUtils.findInfoByName(typeInfo.getFields(), "itemList");
+		IListTypeInfo itemListTypeInfo = (IListTypeInfo) itemListFieldInfo.getType();
+		ListCustomization itemListTypeCustomization = InfoCustomizations.getListCustomization(
+				customizedUI.getInfoCustomizations(), itemListTypeInfo.getName(),
+				itemListTypeInfo.getItemType().getName(), true);
+		TreeStructureDiscoverySettings treeSettings = new TreeStructureDiscoverySettings();
+		itemListTypeCustomization.setTreeStructureDiscoverySettings(treeSettings);
+		treeSettings.setHeterogeneousTree(false);
+		treeSettings.setSingleSubListFieldNameNeverDisplayedAsTreeNode(true);
+		customizedUI.getInfoCustomizations().notifyChange();
+
+		typeInfo = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(this));
+		itemListFieldInfo = ReflectionUIUtils.findInfoByName(typeInfo.getFields(), "itemList");
+		AbstractItemPositionFactory itemPositionFactory = createItemPositionFactory(itemListFieldInfo);
+		IListStructuralInfo itemListStructuralInfo = ((IListTypeInfo) itemListFieldInfo.getType())
+				.getStructuralInfo();
+		IFieldInfo firstSubListField = itemListStructuralInfo
+				.getItemSubListField(itemPositionFactory.getRootItemPosition(0));
+		Assert.assertEquals("subItems", firstSubListField.getName());
+		Assert.assertSame(firstSubListField,
+				itemListStructuralInfo.getItemSubListField(itemPositionFactory.getRootItemPosition(1)));
+		Assert.assertNull(itemListStructuralInfo.getItemSubListField(itemPositionFactory.getRootItemPosition(2)));
+		Assert.assertNull(itemListStructuralInfo.getItemSubListField(itemPositionFactory.getRootItemPosition(3)));
+
+		InfoFilter excludedSubListField = new InfoFilter();
+		excludedSubListField.setValue("subItems");
+		treeSettings.setExcludedSubListFields(Collections.singletonList(excludedSubListField));
+		customizedUI.getInfoCustomizations().notifyChange();
+		typeInfo = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(this));
+		itemListFieldInfo = ReflectionUIUtils.findInfoByName(typeInfo.getFields(), "itemList");
+		itemPositionFactory = createItemPositionFactory(itemListFieldInfo);
+		itemListStructuralInfo = ((IListTypeInfo) itemListFieldInfo.getType()).getStructuralInfo();
+		Assert.assertNull(itemListStructuralInfo.getItemSubListField(itemPositionFactory.getRootItemPosition(0)));
+	}
+
+	@Test
+	public void testCustomizedStructuralInfoCache() {
+		CustomizedUI customizedUI = new CustomizedUI();
+		ITypeInfo typeInfo = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(this));
+		IListTypeInfo itemListTypeInfo = (IListTypeInfo) ReflectionUIUtils
+				.findInfoByName(typeInfo.getFields(), "itemList").getType();
+		InfoCustomizations.getListCustomization(customizedUI.getInfoCustomizations(), itemListTypeInfo.getName(),
+				itemListTypeInfo.getItemType().getName(), true);
+		customizedUI.getInfoCustomizations().notifyChange();
+
+		typeInfo = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(this));
+		itemListTypeInfo = (IListTypeInfo) ReflectionUIUtils.findInfoByName(typeInfo.getFields(), "itemList")
+				.getType();
+		IListStructuralInfo itemListStructuralInfo = itemListTypeInfo.getStructuralInfo();
+		Assert.assertSame(itemListStructuralInfo, itemListTypeInfo.getStructuralInfo());
+		Assert.assertSame(itemListStructuralInfo, ((IListTypeInfo) ReflectionUIUtils
+				.findInfoByName(typeInfo.getFields(), "itemList").getType()).getStructuralInfo());
+
+		customizedUI.getInfoCustomizations().notifyChange();
+		IListStructuralInfo newItemListStructuralInfo = itemListTypeInfo.getStructuralInfo();
+		Assert.assertNotSame(itemListStructuralInfo, newItemListStructuralInfo);
+		Assert.assertSame(newItemListStructuralInfo, itemListTypeInfo.getStructuralInfo());
+	}
+
+	protected AbstractItemPositionFactory createItemPositionFactory(IFieldInfo listField) {
+		return createItemPositionFactory(listField.getValue(this), (IListTypeInfo) listField.getType(),
+				listField.getValueReturnMode(), listField.isGetOnly(), listField.getCaption());
+	}
+
+	protected AbstractItemPositionFactory createItemPositionFactory(final Object listValue,
+			final IListTypeInfo listType, final ValueReturnMode listValueReturnMode, final boolean listGetOnly,
+			final String listTitle) {
+		return new AbstractItemPositionFactory() {
 
 			@Override
 			public Object getRootListValue() {
-				return itemListValue;
+				return listValue;
 			}
 
 			@Override
@@ -93,6 +205,97 @@ public class TestIterableTypeInfos {
 				throw new UnsupportedOperationException();
 			}
 
+			@Override
+			public IListTypeInfo getRootListType() {
+				return listType;
+			}
+
+			@Override
+			public ValueReturnMode getRootListValueReturnMode() {
+				return listValueReturnMode;
+			}
+
+			@Override
+			public boolean isRootListGetOnly() {
+				return listGetOnly;
+			}
+
+			@Override
+			public String getRootListTitle() {
+				return listTitle;
+			}
+		};
+	}
+
+	@Test
+	public void testItemModifications() {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		ITypeInfo typeInfo = reflectionUI.buildTypeInfo(reflectionUI.getTypeInfoSource(this));
+		IFieldInfo itemListFieldInfo = ReflectionUIUtils.findInfoByName(typeInfo.getFields(), "itemList");
+		Object itemListValue = itemListFieldInfo.getValue(this);
+		ItemPosition anyItemPosition = createItemPositionFactory(itemListFieldInfo).getRootItemPosition(-1);
+		Assert.assertTrue(((IInPlaceEditableListTypeInfo) anyItemPosition.getContainingListType()).canEditItemsInPlace());
+
+		ListModificationFactory factory = new ListModificationFactory(anyItemPosition);
+		List<AbstractItem> initialItems = new ArrayList<AbstractItem>(itemList);
+		Item newItem = new Item(5);
+
+		IModification undoInsertion = factory.add(1, newItem).applyAndGetOpposite();
+		Assert.assertTrue(itemList == itemListValue);
+		Assert.assertTrue(itemList.get(1) == newItem);
+		Assert.assertEquals(initialItems.size() + 1, itemList.size());
+
+		IModification undoMove = factory.move(1, 2).applyAndGetOpposite();
+		Assert.assertTrue(itemList.get(3) == newItem);
+		undoMove.applyAndGetOpposite();
+		Assert.assertTrue(itemList.get(1) == newItem);
+
+		IModification undoReplacement = factory.set(0, newItem).applyAndGetOpposite();
+		Assert.assertTrue(itemList.get(0) == newItem);
+		undoReplacement.applyAndGetOpposite();
+
+		undoInsertion.applyAndGetOpposite();
+		Assert.assertEquals(initialItems, itemList);
+	}
+
+	@Test
+	public void testInPlaceItemEditionOptIn() {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		ITypeInfo listType = reflectionUI.buildTypeInfo(new JavaTypeInfoSource(reflectionUI, ArrayList.class, null));
+		Assert.assertTrue(((IInPlaceEditableListTypeInfo) listType).canEditItemsInPlace());
+		ITypeInfo reversedListType = new InfoProxyFactory() {
+
+			@Override
+			protected Object[] toArray(IListTypeInfo type, Object listValue) {
+				List<Object> result = new ArrayList<Object>(Arrays.asList(super.toArray(type, listValue)));
+				Collections.reverse(result);
+				return result.toArray();
+			}
+		}.wrapTypeInfo(listType);
+		Assert.assertFalse(((IInPlaceEditableListTypeInfo) reversedListType).canEditItemsInPlace());
+		ITypeInfo filteredListType = new FilteredTypeFactory(IInfoFilter.DEFAULT).wrapTypeInfo(listType);
+		Assert.assertTrue(((IInPlaceEditableListTypeInfo) filteredListType).canEditItemsInPlace());
+	}
+
+	@Test
+	public void testBufferedItemModifications() {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		ITypeInfo typeInfo = reflectionUI.buildTypeInfo(reflectionUI.getTypeInfoSource(this));
+		final IFieldInfo itemListFieldInfo = ReflectionUIUtils.findInfoByName(typeInfo.getFields(), "itemList");
+		final int[] listValueRetrievalCount = new int[1];
+		BufferedItemPosition anyItemPosition = new AbstractBufferedItemPositionFactory() {
+
+			@Override
+			protected Object getNonBufferedRootListValue() {
+				listValueRetrievalCount[0]++;
+				return itemListFieldInfo.getValue(TestIterableTypeInfos.this);
+			}
+
+			@Override
+			protected void setNonBufferedRootListValue(Object rootListValue) {
+				itemListFieldInfo.setValue(TestIterableTypeInfos.this, rootListValue);
+			}
+
 			@Override
 			public IListTypeInfo getRootListType() {
 				return (IListTypeInfo) itemListFieldInfo.getType();
@@ -100,42 +303,110 @@ public class TestIterableTypeInfos {
 
 			@Override
 			public ValueReturnMode getRootListValueReturnMode() {
-				return itemListFieldInfo.getValueReturnMode();
+				return ValueReturnMode.INDETERMINATE;
 			}
 
 			@Override
 			public boolean isRootListGetOnly() {
-				return itemListFieldInfo.isGetOnly();
+				return false;
 			}
 
 			@Override
 			public String getRootListTitle() {
 				return itemListFieldInfo.getCaption();
 			}
-		}.getRootItemPosition(0);
-		ITypeInfo firstItemType = customizedUI.buildTypeInfo(new JavaTypeInfoSource(customizedUI, itemList.get(0).getClass(), null));
-		Assert.assertEquals(itemListStructuralInfo.getColumns().get(0).getCellValue(firstItemPosition),
-				firstItemType.getCaption());
+		}.getRootItemPosition(-1);
+		Assert.assertArrayEquals(itemList.toArray(), anyItemPosition.retrieveContainingListRawValue());
+		Item newItem = new Item(5);
+		anyItemPosition.insertInContainingList(1, newItem);
+		anyItemPosition.removeFromContainingList(0);
+		anyItemPosition.setInContainingList(2, newItem);
+		int listValueRetrievalCountAfterModifications = listValueRetrievalCount[0];
+		Assert.assertArrayEquals(itemList.toArray(), anyItemPosition.retrieveContainingListRawValue());
+		Assert.assertEquals(listValueRetrievalCountAfterModifications, listValueRetrievalCount[0]);
+		Assert.assertSame(newItem, itemList.get(0));
+		Assert.assertSame(newItem, itemList.get(2));
+		Assert.assertEquals(4, itemList.size());
+	}
 
-		IFieldInfo valueField = ReflectionUIUtils.findInfoByName(firstItemType.getFields(), "value");
-		for (int i = 0; i < itemListStructuralInfo.getColumns().size(); i++) {
-			if (itemListStructuralInfo.getColumns().get(i).getCaption().equals(valueField.getCaption())) {
-				Assert.fail();
-			}
-		}
+	@Test
+	public void testFixedSizeListItemModifications() {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		IListTypeInfo listType = (IListTypeInfo) reflectionUI
+				.buildTypeInfo(new JavaTypeInfoSource(reflectionUI, List.class, null));
+		List<String> list = Arrays.asList("a", "b");
+		ItemPosition anyItemPosition = createItemPositionFactory(list, listType, ValueReturnMode.DIRECT_OR_PROXY, true,
+				"list").getRootItemPosition(-1);
 
-		IInfoFilter firstItemInfoSettings = itemListStructuralInfo.getItemInfoFilter(firstItemPosition);
-		Assert.assertTrue(!firstItemInfoSettings.excludeField(valueField));
+		ListModificationFactory factory = new ListModificationFactory(anyItemPosition);
+		factory.set(0, "c").applyAndGetOpposite();
+		Assert.assertEquals(Arrays.asList("c", "b"), list);
+		try {
+			factory.add(0, "d").applyAndGetOpposite();
+			Assert.fail();
+		} catch (UnsupportedOperationException expected) {
+		}
+		Assert.assertEquals(Arrays.asList("c", "b"), list);
+	}
 
-		IFieldInfo subItemsField = ReflectionUIUtils.findInfoByName(firstItemType.getFields(), "subItems");
-		IFieldInfo subListField = itemListStructuralInfo.getItemSubListField(firstItemPosition);
-		Assert.assertTrue(subListField.getCaption().contains(subItemsField.getCaption()));
+	@Test
+	public void testSetContentReplacement() {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		IListTypeInfo setType = (IListTypeInfo) reflectionUI
+				.buildTypeInfo(new JavaTypeInfoSource(reflectionUI, HashSet.class, null));
+		Set<String> set = new HashSet<String>(Arrays.asList("a", "b", "c"));
+		String newB = new String("b");
+		setType.replaceContent(set, new Object[] { "a", newB, "d" });
+		Assert.assertEquals(new HashSet<String>(Arrays.asList("a", "b", "d")), set);
+		boolean newBFound = false;
+		for (String item : set) {
+			if (item == newB) {
+				newBFound = true;
+			}
+		}
+		Assert.assertTrue(newBFound);
+		try {
+			setType.replaceContent(set, new Object[] { "a", "a" });
+			Assert.fail();
+		} catch (ReflectionUIError expected) {
+		}
+	}
 
-		Object subListNameNodeList = subListField.getValue(firstItemPosition.getItem());
-		Object subListNameNode = ((IListTypeInfo) subListField.getType()).toArray(subListNameNodeList)[0];
-		ITypeInfo subListNameNodeType = customizedUI.buildTypeInfo(customizedUI.getTypeInfoSource(subListNameNode));
-		IFieldInfo actualSubListField = subListNameNodeType.getFields().get(0);
-		Object subList = actualSubListField.getValue(subListNameNode);
-		Assert.assertTrue(subList == null);
+	@Test
+	public void testMapEntryWrapperReuse() {
+		ReflectionUI reflectionUI = new ReflectionUI();
+		IListTypeInfo mapType = (IListTypeInfo) reflectionUI
+				.buildTypeInfo(new JavaTypeInfoSource(reflectionUI, HashMap.class, null));
+		Map<String, String> map = new HashMap<String, String>();
+		map.put("a", "1");
+		map.put("b", "2");
+		List<Object> entries = Arrays.asList(mapType.toArray(map));
+		List<Object> sameEntries = Arrays.asList(mapType.toArray(map));
+		for (int i = 0; i < entries.size(); i++) {
+			Assert.assertSame(entries.get(i), sameEntries.get(i));
+		}
+		map.put("a", "3");
+		map.remove("b");
+		map.put("c", "4");
+		Object[] newEntries = mapType.toArray(map);
+		Assert.assertEquals(2, newEntries.length);
+		for (Object entry : newEntries) {
+			Assert.assertFalse(entries.contains(entry));
+		}
+		mapType.replaceContent(map, newEntries);
+		Assert.assertEquals(2, map.size());
+		Assert.assertEquals("3", map.get("a"));
+		Assert.assertEquals("4", map.get("c"));
+		Map<String, String> otherMap = new HashMap<String, String>(map);
+		Object[] otherEntries = mapType.toArray(otherMap);
+		Assert.assertEquals(2, otherEntries.length);
+		for (int i = 0; i < newEntries.length; i++) {
+			Assert.assertNotSame(newEntries[i], otherEntries[i]);
+		}
+		Object[] entriesAgain = mapType.toArray(map);
+		for (int i = 0; i < newEntries.length; i++) {
+			Assert.assertSame(newEntries[i], entriesAgain[i]);
+		}
+		Assert.assertSame(otherEntries[0], mapType.toArray(otherMap)[0]);
 	}
 }